@@ -0,0 +1,181 @@
+package io.plugcore.plugCore.benchmarks;
+
+import io.papermc.paper.plugin.configuration.PluginMeta;
+import io.plugcore.plugCore.models.JarDigest;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+final class BenchmarkSupport {
+    private static final int MIN_ENTRY_SIZE = 256;
+    private static final int MAX_ENTRY_SIZE = 8 * 1024;
+    private static final int PACKAGES = 256;
+
+    private BenchmarkSupport() {
+    }
+
+    static Logger logger(String name) {
+        Logger logger = Logger.getLogger("PlugCore-Benchmark-" + name);
+        logger.setLevel(Level.SEVERE);
+        return logger;
+    }
+
+    static Plugin plugin(String name, File dataFolder) {
+        Logger logger = logger(name);
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[]{Plugin.class}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "getName" -> name;
+                    case "getLogger" -> logger;
+                    case "getDataFolder" -> dataFolder;
+                    case "isEnabled" -> true;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkPlugin[" + name + "]";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    static Plugin dependentPlugin(String name, String version, String dependency) {
+        PluginDescriptionFile description = new PluginDescriptionFile(name, version, "io.plugcore.bench." + name);
+        PluginMeta meta = proxy(PluginMeta.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getVersion" -> version;
+            case "getPluginDependencies" -> List.of(dependency);
+            case "getPluginSoftDependencies" -> List.of();
+            default -> objectMethod(proxy, method.getName(), args, method.getReturnType());
+        });
+        return proxy(Plugin.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getName" -> name;
+            case "getDescription" -> description;
+            case "getPluginMeta" -> meta;
+            case "isEnabled" -> true;
+            case "toString" -> "BenchmarkPlugin[" + name + "]";
+            default -> objectMethod(proxy, method.getName(), args, method.getReturnType());
+        });
+    }
+
+    static void installServer(List<Plugin> plugins, Executor mainThread) throws ReflectiveOperationException {
+        Plugin[] loaded = plugins.toArray(new Plugin[0]);
+        PluginManager pluginManager = proxy(PluginManager.class, (proxy, method, args) ->
+                "getPlugins".equals(method.getName()) ? loaded.clone() : objectMethod(proxy, method.getName(), args, method.getReturnType()));
+        BukkitScheduler scheduler = proxy(BukkitScheduler.class, (proxy, method, args) -> {
+            if ("runTask".equals(method.getName()) && args[1] instanceof Runnable task) {
+                mainThread.execute(task);
+                return null;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+        Server server = proxy(Server.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getPluginManager" -> pluginManager;
+            case "getScheduler" -> scheduler;
+            default -> objectMethod(proxy, method.getName(), args, method.getReturnType());
+        });
+
+        Field field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        field.set(null, server);
+    }
+
+    static File createJar(File file, long targetBytes, long seed) throws IOException {
+        Random random = new Random(seed);
+        byte[] content = new byte[MAX_ENTRY_SIZE];
+        long written = 0L;
+        int entry = 0;
+
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(file.toPath()))) {
+            output.setLevel(0);
+            while (written < targetBytes) {
+                int length = (int) Math.min(MIN_ENTRY_SIZE + random.nextInt(MAX_ENTRY_SIZE - MIN_ENTRY_SIZE + 1), targetBytes - written);
+                random.nextBytes(content);
+                output.putNextEntry(new ZipEntry("io/plugcore/bench/shaded/lib" + (entry % PACKAGES)
+                        + "/internal/Generated" + entry++ + ".class"));
+                output.write(content, 0, length);
+                output.closeEntry();
+                written += length;
+            }
+        }
+        return file;
+    }
+
+    static void createEmptyFile(File file) throws IOException {
+        try (OutputStream ignored = Files.newOutputStream(file.toPath())) {
+        }
+    }
+
+    static JarDigest randomHash(Random random) {
+        byte[] bytes = new byte[JarDigest.BYTES];
+        random.nextBytes(bytes);
+        return JarDigest.fromBytes(bytes);
+    }
+
+    static void deleteRecursively(File directory) throws IOException {
+        if (directory == null || !directory.exists()) {
+            return;
+        }
+        try (Stream<java.nio.file.Path> paths = Files.walk(directory.toPath())) {
+            for (java.nio.file.Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object objectMethod(Object proxy, String name, Object[] args, Class<?> returnType) {
+        return switch (name) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> defaultValue(returnType);
+        };
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
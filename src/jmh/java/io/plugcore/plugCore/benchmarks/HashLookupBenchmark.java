@@ -0,0 +1,89 @@
+package io.plugcore.plugCore.benchmarks;
+
+import io.plugcore.plugCore.models.AuthorizationStatus;
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.models.PluginState;
+import io.plugcore.plugCore.services.PluginHashRegistry;
+import io.plugcore.plugCore.services.PluginStateStore;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashLookupBenchmark {
+    @Param({"10", "100", "1000"})
+    public int pluginCount;
+
+    private PluginHashRegistry registry;
+    private PluginStateStore stateStore;
+    private JarDigest[] hashes;
+    private String[] hexHashes;
+    private String[] names;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        registry = new PluginHashRegistry();
+        stateStore = new PluginStateStore();
+        hashes = new JarDigest[pluginCount];
+        hexHashes = new String[pluginCount];
+        names = new String[pluginCount];
+
+        for (int i = 0; i < pluginCount; i++) {
+            names[i] = "Plugin" + i;
+            hashes[i] = BenchmarkSupport.randomHash(random);
+            hexHashes[i] = hashes[i].toHex();
+            Plugin plugin = BenchmarkSupport.plugin(names[i], new File("."));
+            registry.register(plugin, hashes[i], null);
+            stateStore.update(hashes[i], i % 2 == 0 ? AuthorizationStatus.AUTHORIZED : AuthorizationStatus.DENIED, null);
+        }
+    }
+
+    @Benchmark
+    public Plugin pluginByHash() {
+        return registry.getPlugin(hashes[next()]);
+    }
+
+    @Benchmark
+    public boolean authorizedByName() {
+        JarDigest jarHash = registry.getHashByName(names[next()]);
+        PluginState state = jarHash != null ? stateStore.get(jarHash) : null;
+        return state != null && state.isAuthorized();
+    }
+
+    @Benchmark
+    public String digestToHex() {
+        return hashes[next()].toHex();
+    }
+
+    @Benchmark
+    public JarDigest digestFromHex() {
+        return JarDigest.fromHex(hexHashes[next()]);
+    }
+
+    private int next() {
+        int index = cursor;
+        cursor = index + 1 == pluginCount ? 0 : index + 1;
+        return index;
+    }
+}
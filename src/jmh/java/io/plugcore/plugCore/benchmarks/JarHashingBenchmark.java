@@ -0,0 +1,69 @@
+package io.plugcore.plugCore.benchmarks;
+
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.services.JarHashingEngine;
+import io.plugcore.plugCore.services.MetricsRegistry;
+import io.plugcore.plugCore.services.PluginHashIndex;
+import io.plugcore.plugCore.services.StartupTimings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JarHashingBenchmark {
+    @Param({"102400", "1048576", "10485760", "52428800"})
+    public long jarBytes;
+
+    private File workDir;
+    private File jar;
+    private JarHashingEngine engine;
+    private PluginHashIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("plugcore-hash-bench").toFile();
+        jar = BenchmarkSupport.createJar(new File(workDir, "Synthetic-" + jarBytes + ".jar"), jarBytes, jarBytes);
+
+        Logger logger = BenchmarkSupport.logger("hashing");
+        engine = new JarHashingEngine(logger, 1, new StartupTimings(logger, workDir));
+        index = new PluginHashIndex(BenchmarkSupport.plugin("PlugCore", workDir), new MetricsRegistry());
+        index.record(jar, engine.hash(jar));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        engine.shutdown();
+        BenchmarkSupport.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public JarDigest hashJar() throws IOException {
+        return engine.hash(jar);
+    }
+
+    @Benchmark
+    public JarDigest indexedLookup() {
+        return index.lookup(jar);
+    }
+}
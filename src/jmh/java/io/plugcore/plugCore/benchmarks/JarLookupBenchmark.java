@@ -0,0 +1,81 @@
+package io.plugcore.plugCore.benchmarks;
+
+import io.plugcore.plugCore.services.PluginFolderIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JarLookupBenchmark {
+    @Param({"10", "100", "1000"})
+    public int folderSize;
+
+    private File pluginsFolder;
+    private PluginFolderIndex folderIndex;
+    private String[] names;
+    private String[] versions;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        pluginsFolder = Files.createTempDirectory("plugcore-lookup-bench").toFile();
+        names = new String[folderSize];
+        versions = new String[folderSize];
+        for (int i = 0; i < folderSize; i++) {
+            names[i] = "Plugin" + i;
+            versions[i] = "1." + i;
+            BenchmarkSupport.createEmptyFile(new File(pluginsFolder, names[i] + "-" + versions[i] + ".jar"));
+        }
+        folderIndex = new PluginFolderIndex(pluginsFolder);
+        folderIndex.size();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkSupport.deleteRecursively(pluginsFolder);
+    }
+
+    @Benchmark
+    public int resolveAllPerScan() {
+        PluginFolderIndex scanIndex = new PluginFolderIndex(pluginsFolder);
+        int resolved = 0;
+        for (int i = 0; i < folderSize; i++) {
+            if (scanIndex.find(names[i], versions[i]) != null) {
+                resolved++;
+            }
+        }
+        return resolved;
+    }
+
+    @Benchmark
+    public File findInIndex() {
+        int index = cursor;
+        cursor = index + 1 == folderSize ? 0 : index + 1;
+        return folderIndex.find(names[index], versions[index]);
+    }
+
+    @Benchmark
+    public File resolveCodeSource() {
+        return folderIndex.resolveCodeSource(JarLookupBenchmark.class);
+    }
+}
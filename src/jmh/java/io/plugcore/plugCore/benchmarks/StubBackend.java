@@ -0,0 +1,92 @@
+package io.plugcore.plugCore.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.plugcore.plugCore.models.JarDigest;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+final class StubBackend implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    StubBackend(String mode, Collection<JarDigest> purchased) throws IOException {
+        JsonArray purchasedHashes = new JsonArray();
+        for (JarDigest hash : purchased) {
+            purchasedHashes.add(hash.toHex());
+        }
+
+        JsonObject validateResponse = new JsonObject();
+        validateResponse.addProperty("valid", true);
+        validateResponse.addProperty("message", "ok");
+        validateResponse.add("purchasedPlugins", purchasedHashes);
+        byte[] validateBody = validateResponse.toString().getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/validate-server", exchange -> respond(exchange, 200, validateBody));
+        server.createContext("/check-plugins", exchange -> {
+            if ("single".equals(mode)) {
+                respond(exchange, 404, new byte[0]);
+                return;
+            }
+            if ("throttled".equals(mode)) {
+                respond(exchange, 429, new byte[0]);
+                return;
+            }
+
+            JsonObject request;
+            try (Reader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+                request = JsonParser.parseReader(reader).getAsJsonObject();
+            }
+            JsonObject results = new JsonObject();
+            for (JsonElement hash : request.getAsJsonArray("jarHashes")) {
+                results.addProperty(hash.getAsString(), false);
+            }
+            JsonObject response = new JsonObject();
+            response.add("results", results);
+            respond(exchange, 200, response.toString().getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/check-plugin", exchange -> {
+            try (Reader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+                JsonParser.parseReader(reader);
+            }
+            JsonObject response = new JsonObject();
+            response.addProperty("purchased", false);
+            respond(exchange, 200, response.toString().getBytes(StandardCharsets.UTF_8));
+        });
+        executor = Executors.newFixedThreadPool(4);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.plugcore.plugCore.benchmarks;
+
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.services.AuthorizationCache;
+import io.plugcore.plugCore.services.DatabaseService;
+import io.plugcore.plugCore.services.EventDispatcher;
+import io.plugcore.plugCore.services.ExternalIpResolver;
+import io.plugcore.plugCore.services.HttpTransport;
+import io.plugcore.plugCore.services.MetricsRegistry;
+import io.plugcore.plugCore.services.RetryPolicy;
+import io.plugcore.plugCore.services.StartupTimings;
+import io.plugcore.plugCore.services.ValidationService;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class ValidationBenchmark {
+    @Param({"10", "100"})
+    public int pluginCount;
+
+    @Param({"batch", "single", "throttled"})
+    public String backend;
+
+    private File workDir;
+    private StubBackend stub;
+    private HttpTransport transport;
+    private ValidationService validationService;
+    private List<JarDigest> hashes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("plugcore-validation-bench").toFile();
+        Random random = new Random(7L);
+        hashes = new ArrayList<>(pluginCount);
+        List<JarDigest> purchased = new ArrayList<>();
+        for (int i = 0; i < pluginCount; i++) {
+            JarDigest hash = BenchmarkSupport.randomHash(random);
+            hashes.add(hash);
+            if (i % 2 == 0) {
+                purchased.add(hash);
+            }
+        }
+        stub = new StubBackend(backend, purchased);
+
+        Plugin plugin = BenchmarkSupport.plugin("PlugCore", workDir);
+        MetricsRegistry metrics = new MetricsRegistry();
+        transport = new HttpTransport(Duration.ofSeconds(5), Duration.ofSeconds(5),
+                new StartupTimings(plugin.getLogger(), workDir), metrics);
+        RetryPolicy retryPolicy = new RetryPolicy(3, 50L, 200L, transport.getExecutor());
+        DatabaseService databaseService = new DatabaseService(stub.baseUrl(), "benchmark",
+                transport, retryPolicy, 5, Duration.ofSeconds(30), metrics);
+        ExternalIpResolver ipResolver = new ExternalIpResolver(plugin.getLogger(), transport, "http://127.0.0.1/",
+                "127.0.0.1", Duration.ofMinutes(5), Duration.ofHours(1));
+        AuthorizationCache authorizationCache = new AuthorizationCache(plugin, Duration.ofHours(24), Duration.ofHours(72));
+        EventDispatcher eventDispatcher = new EventDispatcher(plugin, transport.getExecutor());
+        validationService = new ValidationService(plugin, databaseService, ipResolver, authorizationCache, eventDispatcher, metrics);
+        verifyRound(validationRound());
+    }
+
+    private void verifyRound(Map<JarDigest, Boolean> results) {
+        int purchased = (pluginCount + 1) / 2;
+        int expectedResults = "throttled".equals(backend) ? purchased : pluginCount;
+        long authorized = results.values().stream().filter(Boolean::booleanValue).count();
+        if (results.size() != expectedResults || authorized != purchased) {
+            throw new IllegalStateException("Unexpected " + backend + " round: " + results.size() + " result(s), "
+                    + authorized + " authorized, expected " + expectedResults + " and " + purchased);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        stub.close();
+        transport.shutdown();
+        BenchmarkSupport.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public Map<JarDigest, Boolean> validationRound() {
+        return validationService.refreshServerLink()
+                .thenCompose(linked -> validationService.arePluginsAuthorized(hashes))
+                .join();
+    }
+}
@@ -0,0 +1,145 @@
+package io.plugcore.plugCore.benchmarks;
+
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.models.PluginStateSnapshot;
+import io.plugcore.plugCore.services.AuthorizationCache;
+import io.plugcore.plugCore.services.DatabaseService;
+import io.plugcore.plugCore.services.EventDispatcher;
+import io.plugcore.plugCore.services.ExternalIpResolver;
+import io.plugcore.plugCore.services.HttpTransport;
+import io.plugcore.plugCore.services.JarHashingEngine;
+import io.plugcore.plugCore.services.MetricsRegistry;
+import io.plugcore.plugCore.services.PluginDependencyService;
+import io.plugcore.plugCore.services.PluginHashIndex;
+import io.plugcore.plugCore.services.RetryPolicy;
+import io.plugcore.plugCore.services.StartupTimings;
+import io.plugcore.plugCore.services.ValidationService;
+import org.bukkit.plugin.Plugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class ValidationRoundBenchmark {
+    private static final long JAR_BYTES = 64 * 1024;
+
+    @Param({"10", "100"})
+    public int pluginCount;
+
+    @Param({"batch", "single"})
+    public String backend;
+
+    private File workDir;
+    private StubBackend stub;
+    private ExecutorService mainThread;
+    private HttpTransport transport;
+    private JarHashingEngine hashingEngine;
+    private Plugin corePlugin;
+    private MetricsRegistry metrics;
+    private StartupTimings timings;
+    private EventDispatcher eventDispatcher;
+    private ValidationService validationService;
+    private PluginHashIndex hashIndex;
+    private PluginDependencyService dependencyService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, ReflectiveOperationException {
+        workDir = Files.createTempDirectory("plugcore-round-bench").toFile();
+        File pluginsFolder = new File(workDir, "plugins");
+        File dataFolder = new File(pluginsFolder, "PlugCore");
+        if (!dataFolder.mkdirs()) {
+            throw new IOException("Could not create " + dataFolder);
+        }
+
+        corePlugin = BenchmarkSupport.plugin("PlugCore", dataFolder);
+        timings = new StartupTimings(corePlugin.getLogger(), dataFolder);
+        hashingEngine = new JarHashingEngine(corePlugin.getLogger(), 1, timings);
+        List<Plugin> plugins = new ArrayList<>(pluginCount + 1);
+        List<JarDigest> purchased = new ArrayList<>();
+        plugins.add(corePlugin);
+        for (int i = 0; i < pluginCount; i++) {
+            String name = "Premium" + i;
+            File jar = BenchmarkSupport.createJar(new File(pluginsFolder, name + ".jar"), JAR_BYTES, i);
+            plugins.add(BenchmarkSupport.dependentPlugin(name, "1.0." + i, "PlugCore"));
+            if (i % 2 == 0) {
+                purchased.add(hashingEngine.hash(jar));
+            }
+        }
+
+        mainThread = Executors.newSingleThreadExecutor(task -> new Thread(task, "PlugCore-Benchmark-Main"));
+        BenchmarkSupport.installServer(plugins, mainThread);
+        stub = new StubBackend(backend, purchased);
+
+        metrics = new MetricsRegistry();
+        transport = new HttpTransport(Duration.ofSeconds(5), Duration.ofSeconds(5), timings, metrics);
+        RetryPolicy retryPolicy = new RetryPolicy(3, 50L, 200L, transport.getExecutor());
+        DatabaseService databaseService = new DatabaseService(stub.baseUrl(), "benchmark",
+                transport, retryPolicy, 5, Duration.ofSeconds(30), metrics);
+        ExternalIpResolver ipResolver = new ExternalIpResolver(corePlugin.getLogger(), transport, "http://127.0.0.1/",
+                "127.0.0.1", Duration.ofMinutes(5), Duration.ofHours(1));
+        AuthorizationCache authorizationCache = new AuthorizationCache(corePlugin, Duration.ofHours(24), Duration.ofHours(72));
+        eventDispatcher = new EventDispatcher(corePlugin, transport.getExecutor());
+        validationService = new ValidationService(corePlugin, databaseService, ipResolver, authorizationCache, eventDispatcher, metrics);
+        hashIndex = new PluginHashIndex(corePlugin, metrics);
+        validationService.refreshServerLink().join();
+
+        scanPlugins();
+        verifyRound(validationRound());
+    }
+
+    @Setup(Level.Invocation)
+    public void scanPlugins() {
+        dependencyService = new PluginDependencyService(corePlugin, validationService, hashIndex, hashingEngine,
+                eventDispatcher, timings, metrics, transport.getExecutor());
+        dependencyService.scanPlugins().join();
+    }
+
+    private void verifyRound(PluginStateSnapshot snapshot) {
+        int purchased = (pluginCount + 1) / 2;
+        if (snapshot.getAuthorized().size() != purchased || snapshot.getUnauthorized().size() != pluginCount - purchased) {
+            throw new IllegalStateException("Unexpected " + backend + " round: " + snapshot.getAuthorized().size()
+                    + " authorized, " + snapshot.getUnauthorized().size() + " unauthorized, expected " + purchased
+                    + " and " + (pluginCount - purchased));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        stub.close();
+        transport.shutdown();
+        hashingEngine.shutdown();
+        mainThread.shutdownNow();
+        BenchmarkSupport.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public PluginStateSnapshot validationRound() {
+        dependencyService.validateDependentPlugins().join();
+        return dependencyService.getStateSnapshot();
+    }
+}
@@ -3,16 +3,47 @@ package io.plugcore.plugCore;
 import io.plugcore.plugCore.api.PlugCoreAPI;
 import io.plugcore.plugCore.commands.PlugCoreCommand;
 import io.plugcore.plugCore.config.DatabaseConfig;
+import io.plugcore.plugCore.config.PlugCoreConfig;
+import io.plugcore.plugCore.listeners.PluginLifecycleListener;
+import io.plugcore.plugCore.services.AuthorizationCache;
 import io.plugcore.plugCore.services.DatabaseService;
+import io.plugcore.plugCore.services.EventDispatcher;
+import io.plugcore.plugCore.services.ExternalIpResolver;
+import io.plugcore.plugCore.services.HttpTransport;
+import io.plugcore.plugCore.services.JarHashingEngine;
+import io.plugcore.plugCore.services.MetricsExporter;
+import io.plugcore.plugCore.services.MetricsRegistry;
 import io.plugcore.plugCore.services.PluginDependencyService;
+import io.plugcore.plugCore.services.PluginFolderWatcher;
+import io.plugcore.plugCore.services.PluginHashIndex;
+import io.plugcore.plugCore.services.RetryPolicy;
+import io.plugcore.plugCore.services.RevalidationScheduler;
+import io.plugcore.plugCore.services.StartupTimings;
 import io.plugcore.plugCore.services.ValidationService;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 public class PlugCore extends JavaPlugin {
     private static PlugCore instance;
+    private PlugCoreConfig plugCoreConfig;
+    private StartupTimings startupTimings;
+    private MetricsRegistry metrics;
+    private MetricsExporter metricsExporter;
+    private PluginFolderWatcher folderWatcher;
+    private JarHashingEngine hashingEngine;
+    private HttpTransport httpTransport;
+    private DatabaseService databaseService;
+    private EventDispatcher eventDispatcher;
+    private RevalidationScheduler revalidationScheduler;
     private ValidationService validationService;
     private PluginDependencyService dependencyService;
+    private CompletableFuture<Boolean> startupLinkCheck;
 
     public static PlugCore getInstance() {
         return instance;
@@ -21,55 +52,147 @@ public class PlugCore extends JavaPlugin {
     @Override
     public void onLoad() {
         instance = this;
-        DatabaseService databaseService = new DatabaseService(DatabaseConfig.getBaseUrl(), DatabaseConfig.getAnonKey());
-        validationService = new ValidationService(this, databaseService);
-        dependencyService = new PluginDependencyService(this, validationService);
-        try {
-            boolean valid = validationService.validateServerLinkSync();
-            if (valid) {
-                getLogger().info("Server linked successfully during load.");
-            } else {
-                getLogger().warning("Server not linked during load.");
+        startupTimings = new StartupTimings(getLogger(), getDataFolder());
+        metrics = new MetricsRegistry();
+        plugCoreConfig = PlugCoreConfig.load(this);
+        httpTransport = new HttpTransport(plugCoreConfig.getConnectTimeout(), plugCoreConfig.getRequestTimeout(), startupTimings, metrics);
+        RetryPolicy retryPolicy = new RetryPolicy(plugCoreConfig.getRetryMaxAttempts(), plugCoreConfig.getRetryBaseDelayMillis(),
+                plugCoreConfig.getRetryMaxDelayMillis(), httpTransport.getExecutor());
+        databaseService = new DatabaseService(DatabaseConfig.getBaseUrl(), DatabaseConfig.getAnonKey(), httpTransport, retryPolicy,
+                plugCoreConfig.getBreakerFailureThreshold(), plugCoreConfig.getBreakerOpenDuration(), metrics);
+        ExternalIpResolver ipResolver = new ExternalIpResolver(getLogger(), httpTransport, plugCoreConfig.getIpResolverUrl(),
+                plugCoreConfig.getStaticIp(), plugCoreConfig.getIpCacheTtl(), plugCoreConfig.getIpStaleWindow());
+        AuthorizationCache authorizationCache = new AuthorizationCache(this, plugCoreConfig.getAuthCacheTtl(), plugCoreConfig.getOfflineGrace());
+        authorizationCache.load();
+        eventDispatcher = new EventDispatcher(this, httpTransport.getExecutor());
+        validationService = new ValidationService(this, databaseService, ipResolver, authorizationCache, eventDispatcher, metrics);
+        PluginHashIndex hashIndex = new PluginHashIndex(this, metrics);
+        hashIndex.load();
+        hashingEngine = new JarHashingEngine(getLogger(), plugCoreConfig.getHashingParallelism(), startupTimings);
+        dependencyService = new PluginDependencyService(this, validationService, hashIndex, hashingEngine, eventDispatcher, startupTimings, metrics,
+                httpTransport.getExecutor());
+        startupLinkCheck = startLinkCheck();
+        awaitStartupPlugins(dependencyService.validateStartupPlugins(startupLinkCheck));
+    }
+
+    private CompletableFuture<Boolean> startLinkCheck() {
+        boolean restored = validationService.restoreCachedLinkState();
+        if (restored) {
+            getLogger().info("Server link restored from cache, verifying in the background.");
+        }
+
+        CompletableFuture<Boolean> linkCheck = restored ? validationService.refreshServerLink() : validationService.validateServerLink();
+        linkCheck.whenComplete((valid, throwable) -> {
+            if (throwable != null) {
+                getLogger().warning((restored ? "Background link verification failed: " : "Failed to validate server during load: ")
+                        + throwable.getMessage());
+            } else if (!restored) {
+                if (valid) {
+                    getLogger().info("Server linked successfully during load.");
+                } else {
+                    getLogger().warning("Server not linked during load.");
+                }
             }
-        } catch (Exception e) {
-            getLogger().severe("Failed to validate server during load: " + e.getMessage());
+        });
+        return linkCheck;
+    }
+
+    private void awaitStartupPlugins(CompletableFuture<Void> startupPlugins) {
+        Duration deadline = plugCoreConfig.getStartupDeadline();
+        try {
+            startupPlugins.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            getLogger().warning("STARTUP plugin validation did not finish within " + deadline.toSeconds()
+                    + "s, finishing in the background.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            getLogger().severe("Failed to validate STARTUP plugins: " + e.getCause().getMessage());
         }
-        dependencyService.scanAndValidateStartupPlugins();
     }
 
     @Override
     public void onEnable() {
         PlugCoreAPI.initialize(this);
+        eventDispatcher.start();
+
+        Bukkit.getPluginManager().registerEvents(new PluginLifecycleListener(dependencyService), this);
 
-        PlugCoreCommand command = new PlugCoreCommand(validationService, dependencyService);
+        PlugCoreCommand command = new PlugCoreCommand(validationService, dependencyService, databaseService, startupTimings);
         if (getCommand("plugcore") != null) {
             getCommand("plugcore").setExecutor(command);
             getCommand("plugcore").setTabCompleter(command);
         }
 
         Bukkit.getScheduler().runTaskLater(this, () -> {
-            dependencyService.scanPlugins();
-
-            validationService.validateServerLink().thenAccept(valid -> {
-                if (valid) {
-                    getLogger().info("Server validation successful!");
-                    dependencyService.validateDependentPlugins();
-                } else {
-                    getLogger().warning("Server validation failed. Please link your server again.");
-                }
-            }).exceptionally(throwable -> {
-                getLogger().severe("Validation error: " + throwable.getMessage());
-                return null;
-            });
+            dependencyService.scanPlugins()
+                    .thenCompose(ignored -> startupLinkCheck.handle((valid, throwable) -> valid))
+                    .thenCompose(ignored -> validationService.validateServerLink())
+                    .thenCompose(valid -> {
+                        if (valid) {
+                            getLogger().info("Server validation successful!");
+                            return dependencyService.validateDependentPlugins();
+                        }
+                        getLogger().warning("Server validation failed. Please link your server again.");
+                        return dependencyService.publishStartupVerdicts();
+                    }).exceptionally(throwable -> {
+                        getLogger().severe("Validation error: " + throwable.getMessage());
+                        dependencyService.publishStartupVerdicts();
+                        return null;
+                    }).thenRunAsync(startupTimings::finishBoot, httpTransport.getExecutor());
         }, 1L);
+
+        revalidationScheduler = new RevalidationScheduler(this, validationService, dependencyService,
+                plugCoreConfig.getLinkRefreshInterval(), plugCoreConfig.getRevalidationJitter(), plugCoreConfig.getPluginRecheckInterval());
+        revalidationScheduler.start();
+
+        metricsExporter = new MetricsExporter(this, metrics, httpTransport.getExecutor(), plugCoreConfig.isMetricsFileEnabled(),
+                plugCoreConfig.getMetricsFileInterval(), plugCoreConfig.getMetricsHttpPort());
+        metricsExporter.start();
+
+        if (plugCoreConfig.isWatchEnabled()) {
+            folderWatcher = new PluginFolderWatcher(getLogger(), getDataFolder().getParentFile(), plugCoreConfig.getWatchDebounce(),
+                    dependencyService::handleJarsChanged, dependencyService::rescanPlugins);
+            folderWatcher.start();
+        }
     }
 
     @Override
     public void onDisable() {
+        if (revalidationScheduler != null) {
+            revalidationScheduler.stop();
+        }
+        if (eventDispatcher != null) {
+            eventDispatcher.stop();
+        }
+        if (folderWatcher != null) {
+            folderWatcher.stop();
+        }
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+        }
+        if (hashingEngine != null) {
+            hashingEngine.shutdown();
+        }
+        if (httpTransport != null) {
+            httpTransport.shutdown();
+        }
         getLogger().info("PlugCore has been disabled!");
         instance = null;
     }
 
+    public PlugCoreConfig getPlugCoreConfig() { return plugCoreConfig; }
+
+    public StartupTimings getStartupTimings() { return startupTimings; }
+
+    public MetricsRegistry getMetrics() { return metrics; }
+
+    public HttpTransport getHttpTransport() { return httpTransport; }
+
+    public DatabaseService getDatabaseService() { return databaseService; }
+
+    public EventDispatcher getEventDispatcher() { return eventDispatcher; }
+
     public ValidationService getValidationService() { return validationService; }
 
     public PluginDependencyService getDependencyService() { return dependencyService; }
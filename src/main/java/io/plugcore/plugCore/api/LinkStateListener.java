@@ -0,0 +1,6 @@
+package io.plugcore.plugCore.api;
+
+@FunctionalInterface
+public interface LinkStateListener {
+    void onLinkStateChanged(boolean linked);
+}
@@ -1,6 +1,14 @@
 package io.plugcore.plugCore.api;
 
 import io.plugcore.plugCore.PlugCore;
+import io.plugcore.plugCore.models.EndpointHealth;
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.models.ServerLinkData;
+import org.bukkit.plugin.Plugin;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class PlugCoreAPI {
     private static PlugCoreAPI instance;
@@ -27,12 +35,98 @@ public class PlugCoreAPI {
         if (plugCore.getValidationService() == null) {
             return false;
         }
-        try {
-            return plugCore.getValidationService().validateServerLinkSync();
-        } catch (Exception e) {
-            plugCore.getLogger().warning("Error checking server link status: " + e.getMessage());
+        return plugCore.getValidationService().isServerLinked();
+    }
+
+    public ServerLinkData getLinkData() {
+        if (plugCore.getValidationService() == null) {
+            return null;
+        }
+        return plugCore.getValidationService().getCurrentLinkData();
+    }
+
+    public CompletableFuture<Boolean> isServerLinkedAsync() {
+        if (plugCore.getValidationService() == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return plugCore.getValidationService().validateServerLink().exceptionally(throwable -> {
+            plugCore.getLogger().warning("Error checking server link status: " + throwable.getMessage());
             return false;
+        });
+    }
+
+    public void subscribeLinkState(LinkStateListener listener) {
+        if (plugCore.getEventDispatcher() != null) {
+            plugCore.getEventDispatcher().addLinkStateListener(listener);
         }
     }
-}
 
+    public void unsubscribeLinkState(LinkStateListener listener) {
+        if (plugCore.getEventDispatcher() != null) {
+            plugCore.getEventDispatcher().removeLinkStateListener(listener);
+        }
+    }
+
+    public void subscribeValidation(PluginValidationListener listener) {
+        if (plugCore.getEventDispatcher() != null) {
+            plugCore.getEventDispatcher().addValidationListener(listener);
+        }
+    }
+
+    public void unsubscribeValidation(PluginValidationListener listener) {
+        if (plugCore.getEventDispatcher() != null) {
+            plugCore.getEventDispatcher().removeValidationListener(listener);
+        }
+    }
+
+    public boolean isAuthorized(Plugin plugin) {
+        if (plugCore.getDependencyService() == null) {
+            return false;
+        }
+        return plugCore.getDependencyService().isPluginAuthorized(plugin);
+    }
+
+    public boolean isAuthorized(String pluginName) {
+        if (plugCore.getDependencyService() == null) {
+            return false;
+        }
+        return plugCore.getDependencyService().isPluginAuthorized(pluginName);
+    }
+
+    public String getPluginHash(Plugin plugin) {
+        if (plugCore.getDependencyService() == null) {
+            return null;
+        }
+        JarDigest jarHash = plugCore.getDependencyService().calculatePluginJarHash(plugin);
+        return jarHash != null ? jarHash.toHex() : null;
+    }
+
+    public Plugin getPluginByHash(String jarHash) {
+        if (plugCore.getDependencyService() == null) {
+            return null;
+        }
+        JarDigest digest = JarDigest.tryFromHex(jarHash);
+        return digest != null ? plugCore.getDependencyService().getPluginByHash(digest) : null;
+    }
+
+    public Map<String, Double> getMetrics() {
+        if (plugCore.getMetrics() == null) {
+            return Map.of();
+        }
+        return plugCore.getMetrics().snapshot();
+    }
+
+    public String getMetricsText() {
+        if (plugCore.getMetrics() == null) {
+            return "";
+        }
+        return plugCore.getMetrics().toPrometheusText();
+    }
+
+    public List<EndpointHealth> getEndpointHealth() {
+        if (plugCore.getDatabaseService() == null) {
+            return List.of();
+        }
+        return plugCore.getDatabaseService().getEndpointHealth();
+    }
+}
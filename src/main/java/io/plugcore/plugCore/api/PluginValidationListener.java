@@ -0,0 +1,8 @@
+package io.plugcore.plugCore.api;
+
+import java.util.Map;
+
+@FunctionalInterface
+public interface PluginValidationListener {
+    void onPluginsValidated(Map<String, Boolean> changes);
+}
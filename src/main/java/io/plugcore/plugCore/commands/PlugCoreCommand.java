@@ -1,6 +1,13 @@
 package io.plugcore.plugCore.commands;
 
+import io.plugcore.plugCore.models.BootReport;
+import io.plugcore.plugCore.models.EndpointHealth;
+import io.plugcore.plugCore.models.HashThroughput;
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.models.PhaseTiming;
+import io.plugcore.plugCore.services.DatabaseService;
 import io.plugcore.plugCore.services.PluginDependencyService;
+import io.plugcore.plugCore.services.StartupTimings;
 import io.plugcore.plugCore.services.ValidationService;
 import io.plugcore.plugCore.utils.MessageUtil;
 import org.bukkit.command.Command;
@@ -14,14 +21,20 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 public class PlugCoreCommand implements CommandExecutor, TabCompleter {
     private final ValidationService validationService;
     private final PluginDependencyService dependencyService;
+    private final DatabaseService databaseService;
+    private final StartupTimings startupTimings;
 
-    public PlugCoreCommand(ValidationService validationService, PluginDependencyService dependencyService) {
+    public PlugCoreCommand(ValidationService validationService, PluginDependencyService dependencyService,
+                           DatabaseService databaseService, StartupTimings startupTimings) {
         this.validationService = validationService;
         this.dependencyService = dependencyService;
+        this.databaseService = databaseService;
+        this.startupTimings = startupTimings;
     }
 
     @Override
@@ -46,6 +59,12 @@ public class PlugCoreCommand implements CommandExecutor, TabCompleter {
             case "plugins":
                 handlePlugins(sender);
                 break;
+            case "status":
+                handleStatus(sender);
+                break;
+            case "timings":
+                handleTimings(sender);
+                break;
             default:
                 sendHelpMessage(sender);
                 break;
@@ -122,21 +141,74 @@ public class PlugCoreCommand implements CommandExecutor, TabCompleter {
         }
     }
 
-    private String getPluginNameFromHash(String jarHash) {
-        for (org.bukkit.plugin.Plugin plugin : org.bukkit.Bukkit.getPluginManager().getPlugins()) {
-            String pluginHash = dependencyService.calculatePluginJarHash(plugin);
-            if (jarHash.equals(pluginHash)) {
-                return plugin.getName();
+    private void handleStatus(CommandSender sender) {
+        sender.sendMessage(MessageUtil.info("Server Status:"));
+
+        if (validationService.isServerLinked()) {
+            sender.sendMessage(MessageUtil.success("✔ Linked to plugcore.io"));
+        } else {
+            sender.sendMessage(MessageUtil.error("❌ Not linked"));
+        }
+
+        long lastValidation = validationService.getLastLinkValidation();
+        if (lastValidation > 0) {
+            long secondsAgo = (System.currentTimeMillis() - lastValidation) / 1000;
+            sender.sendMessage(MessageUtil.info("● Last validation: " + secondsAgo + "s ago"));
+        } else {
+            sender.sendMessage(MessageUtil.info("● Last validation: never"));
+        }
+
+        for (EndpointHealth health : databaseService.getEndpointHealth()) {
+            String line = "● " + health.getEndpoint() + ": " + health.getCircuitState()
+                    + " (failures " + health.getConsecutiveFailures() + ", retries " + health.getRetries() + ")";
+            if ("CLOSED".equals(health.getCircuitState())) {
+                sender.sendMessage(MessageUtil.info(line));
+            } else {
+                sender.sendMessage(MessageUtil.warning(line));
             }
         }
-        return jarHash;
+    }
+
+    private void handleTimings(CommandSender sender) {
+        BootReport bootReport = startupTimings.getBootReport();
+        if (bootReport != null) {
+            sender.sendMessage(MessageUtil.info(String.format(Locale.ROOT, "Boot Timings (ready in %.0fms):", bootReport.getBootMillis())));
+        } else {
+            sender.sendMessage(MessageUtil.info("Boot Timings (startup still in progress):"));
+        }
+
+        List<PhaseTiming> phases = startupTimings.getPhases();
+        if (phases.isEmpty()) {
+            sender.sendMessage(MessageUtil.info("No timings recorded yet."));
+            return;
+        }
+
+        for (PhaseTiming phase : phases) {
+            sender.sendMessage(MessageUtil.info(String.format(Locale.ROOT, "● %s: %dx, total %.1fms, p50 %.1fms, p99 %.1fms, max %.1fms",
+                    phase.getPhase(), phase.getCount(), phase.getTotalMillis(), phase.getP50Millis(), phase.getP99Millis(), phase.getMaxMillis())));
+        }
+
+        List<HashThroughput> hashing = startupTimings.getHashThroughput();
+        if (!hashing.isEmpty()) {
+            sender.sendMessage(MessageUtil.info("Hashing Throughput:"));
+            for (HashThroughput entry : hashing) {
+                sender.sendMessage(MessageUtil.info(String.format(Locale.ROOT, "  ◦ %s: %.1f MB in %.1fms (%.1f MB/s)",
+                        entry.getFile(), entry.getSizeBytes() / (1024.0 * 1024.0), entry.getMillis(), entry.getMegabytesPerSecond())));
+            }
+        }
+    }
+
+    private String getPluginNameFromHash(JarDigest jarHash) {
+        return dependencyService.getPluginName(jarHash);
     }
 
     private void sendHelpMessage(CommandSender sender) {
         sender.sendMessage(MessageUtil.info("PlugCore Commands:"));
         sender.sendMessage(MessageUtil.info("◦ /plugcore link <token> - Link your server to your account"));
         sender.sendMessage(MessageUtil.info("◦ /plugcore unlink - Disconnect your server"));
+        sender.sendMessage(MessageUtil.info("◦ /plugcore status - View link and connection status"));
         sender.sendMessage(MessageUtil.info("◦ /plugcore plugins - View plugin status"));
+        sender.sendMessage(MessageUtil.info("◦ /plugcore timings - View startup timings"));
     }
 
     @Override
@@ -146,7 +218,7 @@ public class PlugCoreCommand implements CommandExecutor, TabCompleter {
         }
 
         if (args.length == 1) {
-            return Arrays.asList("link", "unlink", "plugins");
+            return Arrays.asList("link", "unlink", "status", "plugins", "timings");
         }
 
         return new ArrayList<>();
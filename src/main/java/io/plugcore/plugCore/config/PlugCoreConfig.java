@@ -0,0 +1,158 @@
+package io.plugcore.plugCore.config;
+
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.time.Duration;
+
+public class PlugCoreConfig {
+    private final int hashingParallelism;
+    private final String ipResolverUrl;
+    private final String staticIp;
+    private final Duration ipCacheTtl;
+    private final Duration ipStaleWindow;
+    private final Duration linkRefreshInterval;
+    private final Duration revalidationJitter;
+    private final Duration pluginRecheckInterval;
+    private final Duration authCacheTtl;
+    private final int retryMaxAttempts;
+    private final long retryBaseDelayMillis;
+    private final long retryMaxDelayMillis;
+    private final int breakerFailureThreshold;
+    private final Duration breakerOpenDuration;
+    private final Duration offlineGrace;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+    private final Duration startupDeadline;
+    private final boolean metricsFileEnabled;
+    private final Duration metricsFileInterval;
+    private final int metricsHttpPort;
+    private final boolean watchEnabled;
+    private final Duration watchDebounce;
+
+    public PlugCoreConfig(FileConfiguration config) {
+        int defaultParallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        int parallelism = config.getInt("hashing.parallelism", 0);
+        this.hashingParallelism = parallelism > 0 ? parallelism : defaultParallelism;
+        this.ipResolverUrl = config.getString("network.ip-resolver-url", "https://api.ipify.org");
+        this.staticIp = config.getString("network.static-ip", "");
+        this.ipCacheTtl = Duration.ofSeconds(Math.max(1L, config.getLong("network.ip-cache-ttl-seconds", 300L)));
+        this.ipStaleWindow = Duration.ofSeconds(Math.max(0L, config.getLong("network.ip-stale-seconds", 3600L)));
+        this.connectTimeout = Duration.ofSeconds(Math.max(1L, config.getLong("network.connect-timeout-seconds", 10L)));
+        this.requestTimeout = Duration.ofSeconds(Math.max(1L, config.getLong("network.request-timeout-seconds", 30L)));
+        this.linkRefreshInterval = Duration.ofSeconds(Math.max(30L, config.getLong("validation.link-refresh-seconds", 300L)));
+        this.revalidationJitter = Duration.ofSeconds(Math.max(0L, config.getLong("validation.refresh-jitter-seconds", 60L)));
+        this.pluginRecheckInterval = Duration.ofMinutes(Math.max(1L, config.getLong("validation.plugin-recheck-minutes", 60L)));
+        this.retryMaxAttempts = Math.max(1, config.getInt("resilience.max-attempts", 3));
+        this.retryBaseDelayMillis = Math.max(1L, config.getLong("resilience.base-delay-ms", 250L));
+        this.retryMaxDelayMillis = Math.max(retryBaseDelayMillis, config.getLong("resilience.max-delay-ms", 4000L));
+        this.breakerFailureThreshold = Math.max(1, config.getInt("resilience.breaker-failure-threshold", 5));
+        this.breakerOpenDuration = Duration.ofSeconds(Math.max(1L, config.getLong("resilience.breaker-open-seconds", 30L)));
+        this.startupDeadline = Duration.ofSeconds(Math.max(0L, config.getLong("startup.deadline-seconds", 10L)));
+        this.metricsFileEnabled = config.getBoolean("metrics.file-enabled", false);
+        this.metricsFileInterval = Duration.ofSeconds(Math.max(1L, config.getLong("metrics.file-interval-seconds", 60L)));
+        this.metricsHttpPort = Math.max(0, config.getInt("metrics.http-port", 0));
+        this.watchEnabled = config.getBoolean("watch.enabled", true);
+        this.watchDebounce = Duration.ofMillis(Math.max(100L, config.getLong("watch.debounce-ms", 2000L)));
+        this.authCacheTtl = Duration.ofHours(Math.max(0L, config.getLong("auth-cache.ttl-hours", 24L)));
+        this.offlineGrace = Duration.ofHours(Math.max(0L, config.getLong("auth-cache.offline-grace-hours", 72L)));
+    }
+
+    public static PlugCoreConfig load(JavaPlugin plugin) {
+        plugin.saveDefaultConfig();
+        plugin.reloadConfig();
+        return new PlugCoreConfig(plugin.getConfig());
+    }
+
+    public int getHashingParallelism() {
+        return hashingParallelism;
+    }
+
+    public String getIpResolverUrl() {
+        return ipResolverUrl;
+    }
+
+    public String getStaticIp() {
+        return staticIp;
+    }
+
+    public Duration getIpCacheTtl() {
+        return ipCacheTtl;
+    }
+
+    public Duration getIpStaleWindow() {
+        return ipStaleWindow;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public Duration getLinkRefreshInterval() {
+        return linkRefreshInterval;
+    }
+
+    public Duration getRevalidationJitter() {
+        return revalidationJitter;
+    }
+
+    public Duration getPluginRecheckInterval() {
+        return pluginRecheckInterval;
+    }
+
+    public Duration getStartupDeadline() {
+        return startupDeadline;
+    }
+
+    public boolean isMetricsFileEnabled() {
+        return metricsFileEnabled;
+    }
+
+    public Duration getMetricsFileInterval() {
+        return metricsFileInterval;
+    }
+
+    public int getMetricsHttpPort() {
+        return metricsHttpPort;
+    }
+
+    public boolean isWatchEnabled() {
+        return watchEnabled;
+    }
+
+    public Duration getWatchDebounce() {
+        return watchDebounce;
+    }
+
+    public Duration getAuthCacheTtl() {
+        return authCacheTtl;
+    }
+
+    public Duration getOfflineGrace() {
+        return offlineGrace;
+    }
+
+    public int getRetryMaxAttempts() {
+        return retryMaxAttempts;
+    }
+
+    public long getRetryBaseDelayMillis() {
+        return retryBaseDelayMillis;
+    }
+
+    public long getRetryMaxDelayMillis() {
+        return retryMaxDelayMillis;
+    }
+
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    public Duration getBreakerOpenDuration() {
+        return breakerOpenDuration;
+    }
+}
@@ -8,10 +8,16 @@ public class ServerLinkedEvent extends Event {
     private static final HandlerList handlers = new HandlerList();
     private final String serverId;
     private final String ownerUUID;
+    private final boolean linked;
 
     public ServerLinkedEvent(String serverId, String ownerUUID) {
+        this(serverId, ownerUUID, true);
+    }
+
+    public ServerLinkedEvent(String serverId, String ownerUUID, boolean linked) {
         this.serverId = serverId;
         this.ownerUUID = ownerUUID;
+        this.linked = linked;
     }
 
     public static HandlerList getHandlerList() {
@@ -26,6 +32,10 @@ public class ServerLinkedEvent extends Event {
         return ownerUUID;
     }
 
+    public boolean isLinked() {
+        return linked;
+    }
+
     @Override
     public @NotNull HandlerList getHandlers() {
         return handlers;
@@ -0,0 +1,26 @@
+package io.plugcore.plugCore.listeners;
+
+import io.plugcore.plugCore.services.PluginDependencyService;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+
+public class PluginLifecycleListener implements Listener {
+    private final PluginDependencyService dependencyService;
+
+    public PluginLifecycleListener(PluginDependencyService dependencyService) {
+        this.dependencyService = dependencyService;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginEnable(PluginEnableEvent event) {
+        dependencyService.handlePluginEnabled(event.getPlugin());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(PluginDisableEvent event) {
+        dependencyService.handlePluginDisabled(event.getPlugin());
+    }
+}
@@ -0,0 +1,35 @@
+package io.plugcore.plugCore.models;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class AuthorizationCacheData {
+    private final String serverIp;
+    private final boolean serverLinked;
+    private final long serverValidatedAt;
+    private final TreeMap<JarDigest, CachedAuthorization> plugins;
+
+    public AuthorizationCacheData(String serverIp, boolean serverLinked, long serverValidatedAt,
+                                  Map<JarDigest, CachedAuthorization> plugins) {
+        this.serverIp = serverIp;
+        this.serverLinked = serverLinked;
+        this.serverValidatedAt = serverValidatedAt;
+        this.plugins = new TreeMap<>(plugins);
+    }
+
+    public String getServerIp() {
+        return serverIp;
+    }
+
+    public boolean isServerLinked() {
+        return serverLinked;
+    }
+
+    public long getServerValidatedAt() {
+        return serverValidatedAt;
+    }
+
+    public Map<JarDigest, CachedAuthorization> getPlugins() {
+        return plugins != null ? plugins : Map.of();
+    }
+}
@@ -0,0 +1,8 @@
+package io.plugcore.plugCore.models;
+
+public enum AuthorizationStatus {
+    PENDING,
+    AUTHORIZED,
+    DENIED,
+    ERROR
+}
@@ -0,0 +1,33 @@
+package io.plugcore.plugCore.models;
+
+import java.util.List;
+
+public class BootReport {
+    private final long generatedAt;
+    private final double bootMillis;
+    private final List<PhaseTiming> phases;
+    private final List<HashThroughput> hashing;
+
+    public BootReport(long generatedAt, double bootMillis, List<PhaseTiming> phases, List<HashThroughput> hashing) {
+        this.generatedAt = generatedAt;
+        this.bootMillis = bootMillis;
+        this.phases = phases;
+        this.hashing = hashing;
+    }
+
+    public long getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public double getBootMillis() {
+        return bootMillis;
+    }
+
+    public List<PhaseTiming> getPhases() {
+        return phases;
+    }
+
+    public List<HashThroughput> getHashing() {
+        return hashing;
+    }
+}
@@ -0,0 +1,19 @@
+package io.plugcore.plugCore.models;
+
+public class CachedAuthorization {
+    private final boolean authorized;
+    private final long checkedAt;
+
+    public CachedAuthorization(boolean authorized, long checkedAt) {
+        this.authorized = authorized;
+        this.checkedAt = checkedAt;
+    }
+
+    public boolean isAuthorized() {
+        return authorized;
+    }
+
+    public long getCheckedAt() {
+        return checkedAt;
+    }
+}
@@ -0,0 +1,4 @@
+package io.plugcore.plugCore.models;
+
+public record CheckPluginRequest(String serverIp, String jarHash) {
+}
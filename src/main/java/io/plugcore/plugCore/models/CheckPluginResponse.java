@@ -0,0 +1,4 @@
+package io.plugcore.plugCore.models;
+
+public record CheckPluginResponse(Boolean purchased) {
+}
@@ -0,0 +1,6 @@
+package io.plugcore.plugCore.models;
+
+import java.util.List;
+
+public record CheckPluginsRequest(String serverIp, List<String> jarHashes) {
+}
@@ -0,0 +1,6 @@
+package io.plugcore.plugCore.models;
+
+import java.util.Map;
+
+public record CheckPluginsResponse(Map<String, Boolean> results) {
+}
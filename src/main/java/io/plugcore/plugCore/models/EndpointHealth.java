@@ -0,0 +1,31 @@
+package io.plugcore.plugCore.models;
+
+public class EndpointHealth {
+    private final String endpoint;
+    private final String circuitState;
+    private final int consecutiveFailures;
+    private final long retries;
+
+    public EndpointHealth(String endpoint, String circuitState, int consecutiveFailures, long retries) {
+        this.endpoint = endpoint;
+        this.circuitState = circuitState;
+        this.consecutiveFailures = consecutiveFailures;
+        this.retries = retries;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getCircuitState() {
+        return circuitState;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+}
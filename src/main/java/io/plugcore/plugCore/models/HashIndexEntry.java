@@ -0,0 +1,29 @@
+package io.plugcore.plugCore.models;
+
+public class HashIndexEntry {
+    private final long size;
+    private final long lastModified;
+    private final JarDigest hash;
+
+    public HashIndexEntry(long size, long lastModified, JarDigest hash) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.hash = hash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public JarDigest getHash() {
+        return hash;
+    }
+
+    public boolean matches(long size, long lastModified) {
+        return this.size == size && this.lastModified == lastModified;
+    }
+}
@@ -0,0 +1,31 @@
+package io.plugcore.plugCore.models;
+
+public class HashThroughput {
+    private final String file;
+    private final long sizeBytes;
+    private final double millis;
+    private final double megabytesPerSecond;
+
+    public HashThroughput(String file, long sizeBytes, long elapsedNanos) {
+        this.file = file;
+        this.sizeBytes = sizeBytes;
+        this.millis = elapsedNanos / 1_000_000.0;
+        this.megabytesPerSecond = elapsedNanos == 0 ? 0.0 : (sizeBytes / (1024.0 * 1024.0)) / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public double getMillis() {
+        return millis;
+    }
+
+    public double getMegabytesPerSecond() {
+        return megabytesPerSecond;
+    }
+}
@@ -0,0 +1,155 @@
+package io.plugcore.plugCore.models;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class JarDigest implements Comparable<JarDigest> {
+    public static final int BYTES = 32;
+    public static final int HEX_LENGTH = BYTES * 2;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private final long w0;
+    private final long w1;
+    private final long w2;
+    private final long w3;
+
+    private JarDigest(long w0, long w1, long w2, long w3) {
+        this.w0 = w0;
+        this.w1 = w1;
+        this.w2 = w2;
+        this.w3 = w3;
+    }
+
+    public static JarDigest fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES) {
+            throw new IllegalArgumentException("Digest must be " + BYTES + " bytes");
+        }
+        return new JarDigest((long) LONGS.get(bytes, 0), (long) LONGS.get(bytes, 8),
+                (long) LONGS.get(bytes, 16), (long) LONGS.get(bytes, 24));
+    }
+
+    public static JarDigest fromHex(CharSequence hex) {
+        JarDigest digest = tryFromHex(hex);
+        if (digest == null) {
+            throw new IllegalArgumentException("Not a " + HEX_LENGTH + "-character hex digest: " + hex);
+        }
+        return digest;
+    }
+
+    public static JarDigest tryFromHex(CharSequence hex) {
+        if (hex == null || hex.length() != HEX_LENGTH) {
+            return null;
+        }
+
+        long[] words = new long[4];
+        for (int word = 0; word < 4; word++) {
+            long value = 0L;
+            int offset = word * 16;
+            for (int i = 0; i < 16; i++) {
+                char c = hex.charAt(offset + i);
+                int nibble = c < 128 ? HEX_VALUES[c] : -1;
+                if (nibble < 0) {
+                    return null;
+                }
+                value = (value << 4) | nibble;
+            }
+            words[word] = value;
+        }
+        return new JarDigest(words[0], words[1], words[2], words[3]);
+    }
+
+    public static Set<JarDigest> parseAll(Collection<String> hexes) {
+        if (hexes == null || hexes.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<JarDigest> digests = new HashSet<>(hexes.size() * 2);
+        for (String hex : hexes) {
+            JarDigest digest = tryFromHex(hex);
+            if (digest != null) {
+                digests.add(digest);
+            }
+        }
+        return Set.copyOf(digests);
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[BYTES];
+        LONGS.set(bytes, 0, w0);
+        LONGS.set(bytes, 8, w1);
+        LONGS.set(bytes, 16, w2);
+        LONGS.set(bytes, 24, w3);
+        return bytes;
+    }
+
+    public String toHex() {
+        char[] chars = new char[HEX_LENGTH];
+        writeHex(chars, 0, w0);
+        writeHex(chars, 16, w1);
+        writeHex(chars, 32, w2);
+        writeHex(chars, 48, w3);
+        return new String(chars);
+    }
+
+    private static void writeHex(char[] chars, int offset, long word) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX_DIGITS[(int) word & 0xF];
+            word >>>= 4;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JarDigest other)) {
+            return false;
+        }
+        return w0 == other.w0 && w1 == other.w1 && w2 == other.w2 && w3 == other.w3;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(w0);
+    }
+
+    @Override
+    public int compareTo(JarDigest other) {
+        int result = Long.compareUnsigned(w0, other.w0);
+        if (result == 0) {
+            result = Long.compareUnsigned(w1, other.w1);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(w2, other.w2);
+        }
+        if (result == 0) {
+            result = Long.compareUnsigned(w3, other.w3);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+}
@@ -0,0 +1,5 @@
+package io.plugcore.plugCore.models;
+
+public record LinkServerRequest(String token, String serverName, String minecraftVersion, String serverIp,
+                                String serverFingerprint) {
+}
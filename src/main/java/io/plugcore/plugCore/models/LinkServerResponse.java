@@ -0,0 +1,4 @@
+package io.plugcore.plugCore.models;
+
+public record LinkServerResponse(boolean success, String message, String error) {
+}
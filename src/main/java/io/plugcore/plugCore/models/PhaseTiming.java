@@ -0,0 +1,43 @@
+package io.plugcore.plugCore.models;
+
+public class PhaseTiming {
+    private final String phase;
+    private final long count;
+    private final double totalMillis;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public PhaseTiming(String phase, long count, double totalMillis, double p50Millis, double p99Millis, double maxMillis) {
+        this.phase = phase;
+        this.count = count;
+        this.totalMillis = totalMillis;
+        this.p50Millis = p50Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+}
@@ -0,0 +1,35 @@
+package io.plugcore.plugCore.models;
+
+public class PluginState {
+    private final JarDigest jarHash;
+    private final AuthorizationStatus status;
+    private final long updatedAt;
+    private final String reason;
+
+    public PluginState(JarDigest jarHash, AuthorizationStatus status, long updatedAt, String reason) {
+        this.jarHash = jarHash;
+        this.status = status;
+        this.updatedAt = updatedAt;
+        this.reason = reason;
+    }
+
+    public JarDigest getJarHash() {
+        return jarHash;
+    }
+
+    public AuthorizationStatus getStatus() {
+        return status;
+    }
+
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public boolean isAuthorized() {
+        return status == AuthorizationStatus.AUTHORIZED;
+    }
+}
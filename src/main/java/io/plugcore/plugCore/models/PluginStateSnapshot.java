@@ -0,0 +1,34 @@
+package io.plugcore.plugCore.models;
+
+import java.util.List;
+import java.util.Map;
+
+public class PluginStateSnapshot {
+    private final long version;
+    private final Map<JarDigest, PluginState> states;
+    private final List<JarDigest> authorized;
+    private final List<JarDigest> unauthorized;
+
+    public PluginStateSnapshot(long version, Map<JarDigest, PluginState> states, List<JarDigest> authorized, List<JarDigest> unauthorized) {
+        this.version = version;
+        this.states = states;
+        this.authorized = authorized;
+        this.unauthorized = unauthorized;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Map<JarDigest, PluginState> getStates() {
+        return states;
+    }
+
+    public List<JarDigest> getAuthorized() {
+        return authorized;
+    }
+
+    public List<JarDigest> getUnauthorized() {
+        return unauthorized;
+    }
+}
@@ -1,6 +1,8 @@
 package io.plugcore.plugCore.models;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public class ServerLinkData {
@@ -8,11 +10,11 @@ public class ServerLinkData {
     private final UUID ownerUUID;
     private final String verificationToken;
     private final boolean linked;
-    private final List<String> purchasedPlugins;
+    private final Set<JarDigest> purchasedPlugins;
     private final long lastValidation;
 
     public ServerLinkData(String serverId, UUID ownerUUID, String verificationToken,
-                          boolean linked, List<String> purchasedPlugins, long lastValidation) {
+                          boolean linked, Set<JarDigest> purchasedPlugins, long lastValidation) {
         this.serverId = serverId;
         this.ownerUUID = ownerUUID;
         this.verificationToken = verificationToken;
@@ -21,6 +23,12 @@ public class ServerLinkData {
         this.lastValidation = lastValidation;
     }
 
+    @Deprecated
+    public ServerLinkData(String serverId, UUID ownerUUID, String verificationToken,
+                          boolean linked, List<String> purchasedPlugins, long lastValidation) {
+        this(serverId, ownerUUID, verificationToken, linked, JarDigest.parseAll(purchasedPlugins), lastValidation);
+    }
+
     public String getServerId() {
         return serverId;
     }
@@ -38,7 +46,20 @@ public class ServerLinkData {
     }
 
     public List<String> getPurchasedPlugins() {
-        return purchasedPlugins;
+        List<String> hashes = new ArrayList<>(purchasedPlugins.size());
+        for (JarDigest digest : purchasedPlugins) {
+            hashes.add(digest.toHex());
+        }
+        return List.copyOf(hashes);
+    }
+
+    public Set<String> getPurchasedHashes() {
+        return Set.copyOf(getPurchasedPlugins());
+    }
+
+    public boolean isPurchased(String jarHash) {
+        JarDigest digest = JarDigest.tryFromHex(jarHash);
+        return digest != null && purchasedPlugins.contains(digest);
     }
 
     public long getLastValidation() {
@@ -0,0 +1,6 @@
+package io.plugcore.plugCore.models;
+
+import java.util.List;
+
+public record ValidateServerResponse(boolean valid, String message, String error, List<String> purchasedPlugins) {
+}
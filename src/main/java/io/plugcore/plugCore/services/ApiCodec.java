@@ -0,0 +1,147 @@
+package io.plugcore.plugCore.services;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.plugcore.plugCore.models.CheckPluginsResponse;
+import io.plugcore.plugCore.models.ValidateServerResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ApiCodec {
+    private final Gson gson;
+
+    public ApiCodec() {
+        this.gson = new GsonBuilder()
+                .registerTypeAdapter(ValidateServerResponse.class, new ValidateServerResponseAdapter().nullSafe())
+                .registerTypeAdapter(CheckPluginsResponse.class, new CheckPluginsResponseAdapter().nullSafe())
+                .create();
+    }
+
+    public HttpRequest.BodyPublisher publisher(Object requestBody) {
+        return HttpRequest.BodyPublishers.ofString(gson.toJson(requestBody), StandardCharsets.UTF_8);
+    }
+
+    public <T> T read(HttpResponse<InputStream> response, Class<T> type) throws IOException {
+        try (InputStream body = response.body();
+             JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return gson.fromJson(reader, type);
+        } catch (JsonParseException e) {
+            throw new IOException("Malformed response from backend: " + e.getMessage(), e);
+        }
+    }
+
+    public void discard(HttpResponse<InputStream> response) {
+        try (InputStream body = response.body()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static String nextStringOrNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    private static boolean nextBooleanOrFalse(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BOOLEAN) {
+            return reader.nextBoolean();
+        }
+        reader.skipValue();
+        return false;
+    }
+
+    private static class ValidateServerResponseAdapter extends TypeAdapter<ValidateServerResponse> {
+        @Override
+        public void write(JsonWriter out, ValidateServerResponse value) {
+            throw new UnsupportedOperationException("Backend responses are read-only");
+        }
+
+        @Override
+        public ValidateServerResponse read(JsonReader in) throws IOException {
+            boolean valid = false;
+            String message = null;
+            String error = null;
+            List<String> purchasedPlugins = List.of();
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "valid" -> valid = nextBooleanOrFalse(in);
+                    case "message" -> message = nextStringOrNull(in);
+                    case "error" -> error = nextStringOrNull(in);
+                    case "purchasedPlugins" -> {
+                        if (in.peek() != JsonToken.BEGIN_ARRAY) {
+                            in.skipValue();
+                            break;
+                        }
+                        List<String> hashes = new ArrayList<>();
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            String hash = nextStringOrNull(in);
+                            if (hash != null) {
+                                hashes.add(hash);
+                            }
+                        }
+                        in.endArray();
+                        purchasedPlugins = hashes;
+                    }
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+
+            return new ValidateServerResponse(valid, message, error, purchasedPlugins);
+        }
+    }
+
+    private static class CheckPluginsResponseAdapter extends TypeAdapter<CheckPluginsResponse> {
+        @Override
+        public void write(JsonWriter out, CheckPluginsResponse value) {
+            throw new UnsupportedOperationException("Backend responses are read-only");
+        }
+
+        @Override
+        public CheckPluginsResponse read(JsonReader in) throws IOException {
+            Map<String, Boolean> results = Map.of();
+
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!"results".equals(in.nextName()) || in.peek() != JsonToken.BEGIN_OBJECT) {
+                    in.skipValue();
+                    continue;
+                }
+
+                Map<String, Boolean> parsed = new HashMap<>();
+                in.beginObject();
+                while (in.hasNext()) {
+                    String hash = in.nextName();
+                    parsed.put(hash, nextBooleanOrFalse(in));
+                }
+                in.endObject();
+                results = parsed;
+            }
+            in.endObject();
+
+            return new CheckPluginsResponse(results);
+        }
+    }
+}
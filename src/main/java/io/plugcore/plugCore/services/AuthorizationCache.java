@@ -0,0 +1,145 @@
+package io.plugcore.plugCore.services;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import io.plugcore.plugCore.models.AuthorizationCacheData;
+import io.plugcore.plugCore.models.CachedAuthorization;
+import io.plugcore.plugCore.models.JarDigest;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AuthorizationCache {
+    private static final String FILE_NAME = "auth-cache.json";
+    private static final String KEY_FILE_NAME = "auth-cache.key";
+
+    private final Plugin plugin;
+    private final File cacheFile;
+    private final CacheSigner signer;
+    private final Gson gson;
+    private final long ttlMillis;
+    private final long graceMillis;
+    private final Map<JarDigest, CachedAuthorization> plugins;
+    private volatile String serverIp;
+    private volatile boolean serverLinked;
+    private volatile long serverValidatedAt;
+
+    public AuthorizationCache(Plugin plugin, Duration ttl, Duration offlineGrace) {
+        this.plugin = plugin;
+        this.cacheFile = new File(plugin.getDataFolder(), FILE_NAME);
+        this.signer = new CacheSigner(new File(plugin.getDataFolder(), KEY_FILE_NAME));
+        this.gson = new GsonBuilder()
+                .registerTypeAdapter(JarDigest.class, new JarDigestAdapter().nullSafe())
+                .create();
+        this.ttlMillis = ttl.toMillis();
+        this.graceMillis = offlineGrace.toMillis();
+        this.plugins = new ConcurrentHashMap<>();
+    }
+
+    public synchronized void load() {
+        plugins.clear();
+        serverLinked = false;
+        serverValidatedAt = 0L;
+
+        if (!cacheFile.isFile() || !signer.hasKey()) {
+            return;
+        }
+
+        try {
+            JsonObject stored = gson.fromJson(Files.readString(cacheFile.toPath(), StandardCharsets.UTF_8), JsonObject.class);
+            if (stored == null || !stored.has("data") || !stored.has("signature")) {
+                plugin.getLogger().warning("Authorization cache is incomplete and will be ignored.");
+                return;
+            }
+
+            AuthorizationCacheData data = gson.fromJson(stored.get("data"), AuthorizationCacheData.class);
+            if (!signer.verify(gson.toJson(data), stored.get("signature").getAsString())) {
+                plugin.getLogger().warning("Authorization cache failed its integrity check and will be ignored.");
+                return;
+            }
+
+            serverIp = data.getServerIp();
+            serverLinked = data.isServerLinked();
+            serverValidatedAt = data.getServerValidatedAt();
+            plugins.putAll(data.getPlugins());
+        } catch (IOException | JsonParseException | IllegalArgumentException | IllegalStateException | GeneralSecurityException e) {
+            plugin.getLogger().warning("Could not read authorization cache: " + e.getMessage());
+        }
+    }
+
+    public synchronized void save() {
+        File dataFolder = cacheFile.getParentFile();
+        if (!dataFolder.exists() && !dataFolder.mkdirs()) {
+            plugin.getLogger().warning("Could not create data folder for authorization cache.");
+            return;
+        }
+
+        try {
+            AuthorizationCacheData data = new AuthorizationCacheData(serverIp, serverLinked, serverValidatedAt, plugins);
+            JsonObject stored = new JsonObject();
+            stored.add("data", gson.toJsonTree(data));
+            stored.addProperty("signature", signer.sign(gson.toJson(data)));
+
+            File tempFile = new File(dataFolder, FILE_NAME + ".tmp");
+            Files.writeString(tempFile.toPath(), gson.toJson(stored), StandardCharsets.UTF_8);
+            Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | GeneralSecurityException e) {
+            plugin.getLogger().warning("Could not write authorization cache: " + e.getMessage());
+        }
+    }
+
+    public void recordServer(String ip, boolean linked, long validatedAt) {
+        serverIp = ip;
+        serverLinked = linked;
+        serverValidatedAt = validatedAt;
+        if (!linked) {
+            plugins.clear();
+        }
+    }
+
+    public void recordPlugin(JarDigest jarHash, boolean authorized, long checkedAt) {
+        plugins.put(jarHash, new CachedAuthorization(authorized, checkedAt));
+    }
+
+    public void clear() {
+        serverIp = null;
+        serverLinked = false;
+        serverValidatedAt = 0L;
+        plugins.clear();
+    }
+
+    public boolean isServerFresh(long now) {
+        return serverLinked && now - serverValidatedAt < ttlMillis;
+    }
+
+    public boolean isServerWithinGrace(long now) {
+        return serverLinked && now - serverValidatedAt < graceMillis;
+    }
+
+    public long getServerValidatedAt() {
+        return serverValidatedAt;
+    }
+
+    public Boolean getFreshPluginAuthorization(JarDigest jarHash, long now) {
+        CachedAuthorization cached = plugins.get(jarHash);
+        if (cached == null || now - cached.getCheckedAt() >= ttlMillis) {
+            return null;
+        }
+        return cached.isAuthorized();
+    }
+
+    public boolean isPluginWithinGrace(JarDigest jarHash, long now) {
+        CachedAuthorization cached = plugins.get(jarHash);
+        return cached != null && cached.isAuthorized() && now - cached.getCheckedAt() < graceMillis;
+    }
+}
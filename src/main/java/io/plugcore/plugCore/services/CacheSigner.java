@@ -0,0 +1,68 @@
+package io.plugcore.plugCore.services;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+public class CacheSigner {
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private final File keyFile;
+    private byte[] key;
+
+    public CacheSigner(File keyFile) {
+        this.keyFile = keyFile;
+    }
+
+    public boolean hasKey() {
+        return key != null || keyFile.isFile();
+    }
+
+    public synchronized String sign(String payload) throws IOException, GeneralSecurityException {
+        return HexFormat.of().formatHex(mac(payload));
+    }
+
+    public synchronized boolean verify(String payload, String signature) throws IOException, GeneralSecurityException {
+        if (!hasKey()) {
+            return false;
+        }
+        return MessageDigest.isEqual(mac(payload), HexFormat.of().parseHex(signature));
+    }
+
+    private byte[] mac(String payload) throws IOException, GeneralSecurityException {
+        Mac mac = Mac.getInstance(MAC_ALGORITHM);
+        mac.init(new SecretKeySpec(loadOrCreateKey(), MAC_ALGORITHM));
+        return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] loadOrCreateKey() throws IOException {
+        if (key != null) {
+            return key;
+        }
+
+        if (keyFile.isFile()) {
+            key = Files.readAllBytes(keyFile.toPath());
+            return key;
+        }
+
+        File dataFolder = keyFile.getParentFile();
+        if (dataFolder != null && !dataFolder.exists() && !dataFolder.mkdirs()) {
+            throw new IOException("Could not create " + dataFolder);
+        }
+
+        byte[] generated = new byte[32];
+        new SecureRandom().nextBytes(generated);
+        Files.write(keyFile.toPath(), generated);
+        keyFile.setReadable(false, false);
+        keyFile.setReadable(true, true);
+        key = generated;
+        return key;
+    }
+}
@@ -0,0 +1,9 @@
+package io.plugcore.plugCore.services;
+
+import java.io.IOException;
+
+public class CircuitOpenException extends IOException {
+    public CircuitOpenException(String endpoint) {
+        super("Circuit breaker for " + endpoint + " is open, skipping request");
+    }
+}
@@ -1,137 +1,306 @@
 package io.plugcore.plugCore.services;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import io.plugcore.plugCore.models.CheckPluginRequest;
+import io.plugcore.plugCore.models.CheckPluginResponse;
+import io.plugcore.plugCore.models.CheckPluginsRequest;
+import io.plugcore.plugCore.models.CheckPluginsResponse;
+import io.plugcore.plugCore.models.EndpointHealth;
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.models.LinkServerRequest;
+import io.plugcore.plugCore.models.LinkServerResponse;
+import io.plugcore.plugCore.models.ServerIpRequest;
+import io.plugcore.plugCore.models.ValidateServerResponse;
 import io.plugcore.plugCore.models.ValidationResponse;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class DatabaseService {
-    private final HttpClient httpClient;
-    private final Gson gson;
+    private static final int BATCH_CHUNK_SIZE = 50;
+    private static final long BATCH_RETRY_MILLIS = 10 * 60 * 1000L;
+
+    private final HttpTransport transport;
+    private final RetryPolicy retryPolicy;
+    private final Map<String, CircuitBreaker> circuitBreakers;
+    private final int breakerFailureThreshold;
+    private final long breakerOpenMillis;
+    private final ApiCodec apiCodec;
+    private final MetricsRegistry metrics;
+    private final MetricsRegistry.CounterFamily backendCalls;
+    private final Map<String, MetricsRegistry.Counter> issuedCalls;
+    private final SingleFlight<String, ValidationResponse> serverValidations;
+    private final SingleFlight<PurchaseKey, Boolean> purchaseChecks;
     private final String baseUrl;
     private final String anonKey;
+    private volatile long batchRetryAt = 0L;
 
-    public DatabaseService(String baseUrl, String anonKey) {
+    public DatabaseService(String baseUrl, String anonKey, HttpTransport transport, RetryPolicy retryPolicy,
+                           int breakerFailureThreshold, Duration breakerOpenDuration, MetricsRegistry metrics) {
         this.baseUrl = baseUrl;
         this.anonKey = anonKey;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
-        this.gson = new Gson();
+        this.transport = transport;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreakers = new ConcurrentHashMap<>();
+        this.breakerFailureThreshold = breakerFailureThreshold;
+        this.breakerOpenMillis = breakerOpenDuration.toMillis();
+        this.apiCodec = new ApiCodec();
+        this.metrics = metrics;
+        this.backendCalls = metrics.counterFamily("plugcore_backend_calls_total",
+                "Backend calls by endpoint, split into issued requests and calls coalesced into an in-flight request.", "endpoint", "result");
+        this.issuedCalls = new ConcurrentHashMap<>();
+        this.serverValidations = new SingleFlight<>("/validate-server", backendCalls, metrics);
+        this.purchaseChecks = new SingleFlight<>("/check-plugin", backendCalls, metrics);
     }
 
     public CompletableFuture<ValidationResponse> linkServer(String token, String serverName, String minecraftVersion, String serverIp, String serverFingerprint) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                JsonObject requestBody = new JsonObject();
-                requestBody.addProperty("token", token);
-                requestBody.addProperty("serverName", serverName);
-                requestBody.addProperty("minecraftVersion", minecraftVersion);
-                requestBody.addProperty("serverIp", serverIp);
-                requestBody.addProperty("serverFingerprint", serverFingerprint);
-
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(baseUrl + "/link-server"))
-                        .header("Content-Type", "application/json")
-                        .header("Authorization", "Bearer " + anonKey)
-                        .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(requestBody)))
-                        .timeout(Duration.ofSeconds(30))
-                        .build();
-
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    JsonObject jsonResponse = gson.fromJson(response.body(), JsonObject.class);
-                    boolean success = jsonResponse.has("success") && jsonResponse.get("success").getAsBoolean();
-                    String message = jsonResponse.has("message") ? jsonResponse.get("message").getAsString() : "Server linked";
-
-                    return new ValidationResponse(success, message, List.of(), serverIp);
-                } else {
-                    JsonObject errorResponse = gson.fromJson(response.body(), JsonObject.class);
-                    String errorMessage = errorResponse.has("error") ? errorResponse.get("error").getAsString() : "Failed to link server";
-                    return new ValidationResponse(false, errorMessage, List.of(), "");
-                }
-            } catch (IOException | InterruptedException e) {
-                return new ValidationResponse(false, "Error connecting to API: " + e.getMessage(), List.of(), "");
+        LinkServerRequest requestBody = new LinkServerRequest(token, serverName, minecraftVersion, serverIp, serverFingerprint);
+
+        return post("/link-server", requestBody, false).thenApply(response -> {
+            LinkServerResponse body = response.statusCode() == 200
+                    ? read(response, LinkServerResponse.class)
+                    : readError(response, LinkServerResponse.class);
+            if (response.statusCode() == 200) {
+                boolean success = body != null && body.success();
+                String message = body != null && body.message() != null ? body.message() : "Server linked";
+
+                return new ValidationResponse(success, message, List.of(), serverIp);
+            } else {
+                String errorMessage = body != null && body.error() != null ? body.error() : "Failed to link server";
+                return new ValidationResponse(false, errorMessage, List.of(), "");
             }
-        });
+        }).exceptionally(throwable -> new ValidationResponse(false, "Error connecting to API: " + causeMessage(throwable), List.of(), ""));
     }
 
     public CompletableFuture<ValidationResponse> validateServer(String serverIp) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                JsonObject requestBody = new JsonObject();
-                requestBody.addProperty("serverIp", serverIp);
-
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(baseUrl + "/validate-server"))
-                        .header("Content-Type", "application/json")
-                        .header("Authorization", "Bearer " + anonKey)
-                        .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(requestBody)))
-                        .timeout(Duration.ofSeconds(30))
-                        .build();
-
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-                if (response.statusCode() == 200) {
-                    JsonObject jsonResponse = gson.fromJson(response.body(), JsonObject.class);
-                    boolean valid = jsonResponse.has("valid") && jsonResponse.get("valid").getAsBoolean();
-                    String message = jsonResponse.has("message") ? jsonResponse.get("message").getAsString() : "Validated";
-
-                    List<String> plugins = List.of();
-                    if (jsonResponse.has("purchasedPlugins")) {
-                        var pluginsArray = jsonResponse.getAsJsonArray("purchasedPlugins");
-                        plugins = new java.util.ArrayList<>();
-                        for (var element : pluginsArray) {
-                            plugins.add(element.getAsString());
-                        }
-                    }
-
-                    return new ValidationResponse(valid, message, plugins, serverIp);
-                } else {
-                    JsonObject errorResponse = gson.fromJson(response.body(), JsonObject.class);
-                    String errorMessage = errorResponse.has("error") ? errorResponse.get("error").getAsString() : "Validation failed";
-                    return new ValidationResponse(false, errorMessage, List.of(), "");
+        return serverValidations.execute(serverIp, () -> fetchServerValidation(serverIp));
+    }
+
+    private CompletableFuture<ValidationResponse> fetchServerValidation(String serverIp) {
+        return post("/validate-server", new ServerIpRequest(serverIp), true).thenApply(response -> {
+            ValidateServerResponse body = response.statusCode() == 200
+                    ? read(response, ValidateServerResponse.class)
+                    : readError(response, ValidateServerResponse.class);
+            if (response.statusCode() == 200) {
+                boolean valid = body != null && body.valid();
+                String message = body != null && body.message() != null ? body.message() : "Validated";
+                List<String> plugins = body != null ? body.purchasedPlugins() : List.of();
+
+                return new ValidationResponse(valid, message, plugins, serverIp);
+            } else {
+                String errorMessage = body != null && body.error() != null ? body.error() : "Validation failed";
+                return new ValidationResponse(false, errorMessage, List.of(), "");
+            }
+        });
+    }
+
+    private CompletableFuture<Boolean> fetchPluginPurchase(String serverIp, JarDigest jarHash) {
+        return post("/check-plugin", new CheckPluginRequest(serverIp, jarHash.toHex()), true).thenApply(response -> {
+            if (response.statusCode() != 200) {
+                apiCodec.discard(response);
+                throw new CompletionException(new IOException("Backend returned HTTP " + response.statusCode() + " for /check-plugin"));
+            }
+
+            CheckPluginResponse body = read(response, CheckPluginResponse.class);
+            if (body == null || body.purchased() == null) {
+                throw new CompletionException(new IOException("Backend returned no result for /check-plugin"));
+            }
+            return body.purchased();
+        });
+    }
+
+    public CompletableFuture<Map<JarDigest, Boolean>> checkPluginPurchases(String serverIp, Collection<JarDigest> jarHashes) {
+        if (jarHashes.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        List<PurchaseKey> keys = new ArrayList<>(jarHashes.size());
+        for (JarDigest jarHash : jarHashes) {
+            keys.add(new PurchaseKey(serverIp, jarHash));
+        }
+
+        Map<PurchaseKey, CompletableFuture<Boolean>> flights = purchaseChecks.executeAll(keys, claimed -> {
+            List<JarDigest> hashes = new ArrayList<>(claimed.size());
+            for (PurchaseKey key : claimed) {
+                hashes.add(key.jarHash());
+            }
+            return fetchPluginPurchases(serverIp, hashes).thenApply(results -> {
+                Map<PurchaseKey, Boolean> keyed = new HashMap<>(results.size() * 2);
+                results.forEach((jarHash, purchased) -> keyed.put(new PurchaseKey(serverIp, jarHash), purchased));
+                return keyed;
+            });
+        });
+
+        return CompletableFuture.allOf(flights.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<JarDigest, Boolean> results = new HashMap<>(flights.size() * 2);
+            flights.forEach((key, flight) -> {
+                Boolean purchased = flight.join();
+                if (purchased != null) {
+                    results.put(key.jarHash(), purchased);
                 }
-            } catch (IOException | InterruptedException e) {
-                return new ValidationResponse(false, "Error connecting to API: " + e.getMessage(), List.of(), "");
+            });
+            return results;
+        });
+    }
+
+    private CompletableFuture<Map<JarDigest, Boolean>> fetchPluginPurchases(String serverIp, List<JarDigest> hashes) {
+        if (System.currentTimeMillis() < batchRetryAt) {
+            return checkPluginPurchasesIndividually(serverIp, hashes);
+        }
+
+        List<CompletableFuture<Map<JarDigest, Boolean>>> chunks = new ArrayList<>();
+        for (int start = 0; start < hashes.size(); start += BATCH_CHUNK_SIZE) {
+            List<JarDigest> chunk = hashes.subList(start, Math.min(start + BATCH_CHUNK_SIZE, hashes.size()));
+            chunks.add(checkPluginPurchaseChunk(serverIp, chunk));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<JarDigest, Boolean> results = new HashMap<>();
+            for (CompletableFuture<Map<JarDigest, Boolean>> chunk : chunks) {
+                results.putAll(chunk.join());
             }
+            return results;
         });
     }
 
-    public CompletableFuture<Boolean> checkPluginPurchase(String serverIp, String jarHash) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                JsonObject requestBody = new JsonObject();
-                requestBody.addProperty("serverIp", serverIp);
-                requestBody.addProperty("jarHash", jarHash);
+    private CompletableFuture<Map<JarDigest, Boolean>> checkPluginPurchaseChunk(String serverIp, List<JarDigest> jarHashes) {
+        List<String> hexHashes = new ArrayList<>(jarHashes.size());
+        for (JarDigest jarHash : jarHashes) {
+            hexHashes.add(jarHash.toHex());
+        }
 
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(baseUrl + "/check-plugin"))
-                        .header("Content-Type", "application/json")
-                        .header("Authorization", "Bearer " + anonKey)
-                        .POST(HttpRequest.BodyPublishers.ofString(gson.toJson(requestBody)))
-                        .timeout(Duration.ofSeconds(30))
-                        .build();
+        return post("/check-plugins", new CheckPluginsRequest(serverIp, hexHashes), true).thenApply(response -> {
+            if (response.statusCode() == 404 || response.statusCode() == 405 || response.statusCode() == 501) {
+                apiCodec.discard(response);
+                batchRetryAt = System.currentTimeMillis() + BATCH_RETRY_MILLIS;
+                return null;
+            }
+
+            if (response.statusCode() != 200) {
+                apiCodec.discard(response);
+                throw new CompletionException(new IOException("Backend returned HTTP " + response.statusCode() + " for /check-plugins"));
+            }
 
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            CheckPluginsResponse body = read(response, CheckPluginsResponse.class);
+            if (body == null || body.results() == null) {
+                throw new CompletionException(new IOException("Backend returned no results for /check-plugins"));
+            }
 
-                if (response.statusCode() == 200) {
-                    JsonObject jsonResponse = gson.fromJson(response.body(), JsonObject.class);
-                    return jsonResponse.has("purchased") && jsonResponse.get("purchased").getAsBoolean();
+            Map<JarDigest, Boolean> results = new HashMap<>(jarHashes.size() * 2);
+            for (int i = 0; i < jarHashes.size(); i++) {
+                Boolean purchased = body.results().get(hexHashes.get(i));
+                if (purchased != null) {
+                    results.put(jarHashes.get(i), purchased);
                 }
-                return false;
-            } catch (IOException | InterruptedException e) {
-                return false;
             }
+            return results;
+        }).thenCompose(results -> results != null
+                ? CompletableFuture.completedFuture(results)
+                : checkPluginPurchasesIndividually(serverIp, jarHashes));
+    }
+
+    private CompletableFuture<Map<JarDigest, Boolean>> checkPluginPurchasesIndividually(String serverIp, List<JarDigest> jarHashes) {
+        Map<JarDigest, CompletableFuture<Boolean>> futures = new HashMap<>();
+        for (JarDigest jarHash : jarHashes) {
+            futures.put(jarHash, fetchPluginPurchase(serverIp, jarHash).exceptionally(throwable -> null));
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<JarDigest, Boolean> results = new HashMap<>();
+            futures.forEach((jarHash, future) -> {
+                Boolean purchased = future.join();
+                if (purchased != null) {
+                    results.put(jarHash, purchased);
+                }
+            });
+            return results;
         });
     }
+
+    public List<EndpointHealth> getEndpointHealth() {
+        List<EndpointHealth> health = new ArrayList<>();
+        circuitBreakers.forEach((endpoint, breaker) -> health.add(new EndpointHealth(
+                endpoint,
+                breaker.getState().name(),
+                breaker.getConsecutiveFailures(),
+                retryPolicy.getRetries(endpoint)
+        )));
+        health.sort(Comparator.comparing(EndpointHealth::getEndpoint));
+        return health;
+    }
+
+    private CircuitBreaker newCircuitBreaker(String endpoint) {
+        CircuitBreaker breaker = new CircuitBreaker(endpoint, breakerFailureThreshold, breakerOpenMillis);
+        metrics.gauge("plugcore_circuit_state", "Circuit breaker state by endpoint (0 = closed, 1 = open, 2 = half-open).",
+                () -> breaker.getState().ordinal(), "endpoint", endpoint);
+        metrics.gauge("plugcore_circuit_consecutive_failures", "Consecutive failures counted by each circuit breaker.",
+                breaker::getConsecutiveFailures, "endpoint", endpoint);
+        return breaker;
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> post(String path, Object requestBody, boolean idempotent) {
+        HttpRequest request = transport.newRequest(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + anonKey)
+                .POST(apiCodec.publisher(requestBody))
+                .build();
+
+        MetricsRegistry.Counter issued = issuedCalls.computeIfAbsent(path, endpoint -> backendCalls.labels(endpoint, "issued"));
+        CircuitBreaker breaker = circuitBreakers.computeIfAbsent(path, this::newCircuitBreaker);
+        Supplier<CompletableFuture<HttpResponse<InputStream>>> call = () -> breaker.execute(() -> {
+            issued.increment();
+            return transport.send(path, request, HttpResponse.BodyHandlers.ofInputStream()).thenApply(response -> {
+                if (response.statusCode() >= 500) {
+                    apiCodec.discard(response);
+                }
+                ensureAvailable(response);
+                return response;
+            });
+        });
+
+        return idempotent ? retryPolicy.execute(path, call) : call.get();
+    }
+
+    private <T> T read(HttpResponse<InputStream> response, Class<T> type) {
+        try {
+            return apiCodec.read(response, type);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private <T> T readError(HttpResponse<InputStream> response, Class<T> type) {
+        try {
+            return apiCodec.read(response, type);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void ensureAvailable(HttpResponse<?> response) {
+        if (response.statusCode() >= 500) {
+            throw new CompletionException(new IOException("Backend returned HTTP " + response.statusCode()));
+        }
+    }
+
+    private record PurchaseKey(String serverIp, JarDigest jarHash) {
+    }
+
+    private static String causeMessage(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return cause.getMessage();
+    }
 }
@@ -0,0 +1,132 @@
+package io.plugcore.plugCore.services;
+
+import io.plugcore.plugCore.api.LinkStateListener;
+import io.plugcore.plugCore.api.PluginValidationListener;
+import io.plugcore.plugCore.events.PluginValidatedEvent;
+import io.plugcore.plugCore.events.ServerLinkedEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+public class EventDispatcher {
+    private final Plugin plugin;
+    private final Executor executor;
+    private final Logger logger;
+    private final List<LinkStateListener> linkStateListeners;
+    private final List<PluginValidationListener> validationListeners;
+    private final AtomicBoolean linkFlushScheduled;
+    private final Object asyncLock = new Object();
+    private CompletableFuture<Void> asyncTail = CompletableFuture.completedFuture(null);
+    private volatile boolean started = false;
+    private volatile boolean linked = false;
+    private volatile String serverId;
+    private boolean lastFiredLinked = false;
+
+    public EventDispatcher(Plugin plugin, Executor executor) {
+        this.plugin = plugin;
+        this.executor = executor;
+        this.logger = plugin.getLogger();
+        this.linkStateListeners = new CopyOnWriteArrayList<>();
+        this.validationListeners = new CopyOnWriteArrayList<>();
+        this.linkFlushScheduled = new AtomicBoolean();
+    }
+
+    public void start() {
+        started = true;
+        scheduleLinkFlush();
+    }
+
+    public void stop() {
+        started = false;
+    }
+
+    public void addLinkStateListener(LinkStateListener listener) {
+        linkStateListeners.add(listener);
+    }
+
+    public void removeLinkStateListener(LinkStateListener listener) {
+        linkStateListeners.remove(listener);
+    }
+
+    public void addValidationListener(PluginValidationListener listener) {
+        validationListeners.add(listener);
+    }
+
+    public void removeValidationListener(PluginValidationListener listener) {
+        validationListeners.remove(listener);
+    }
+
+    public void linkStateChanged(boolean linked, String serverId) {
+        this.linked = linked;
+        this.serverId = serverId;
+
+        dispatchAsync(() -> {
+            for (LinkStateListener listener : linkStateListeners) {
+                try {
+                    listener.onLinkStateChanged(linked);
+                } catch (Exception e) {
+                    logger.warning("Link state listener threw an exception: " + e.getMessage());
+                }
+            }
+        });
+        scheduleLinkFlush();
+    }
+
+    public void pluginsValidated(Map<String, Boolean> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<String, Boolean> entry : changes.entrySet()) {
+            Bukkit.getPluginManager().callEvent(new PluginValidatedEvent(entry.getKey(), entry.getValue()));
+        }
+
+        if (validationListeners.isEmpty()) {
+            return;
+        }
+
+        Map<String, Boolean> round = Collections.unmodifiableMap(new LinkedHashMap<>(changes));
+        dispatchAsync(() -> {
+            for (PluginValidationListener listener : validationListeners) {
+                try {
+                    listener.onPluginsValidated(round);
+                } catch (Exception e) {
+                    logger.warning("Plugin validation listener threw an exception: " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void scheduleLinkFlush() {
+        if (!started || !linkFlushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        Bukkit.getScheduler().runTask(plugin, this::flushLinkState);
+    }
+
+    private void flushLinkState() {
+        linkFlushScheduled.set(false);
+        boolean current = linked;
+        if (current == lastFiredLinked) {
+            return;
+        }
+
+        lastFiredLinked = current;
+        Bukkit.getPluginManager().callEvent(new ServerLinkedEvent(serverId, null, current));
+    }
+
+    private void dispatchAsync(Runnable task) {
+        synchronized (asyncLock) {
+            asyncTail = asyncTail.thenRunAsync(task, executor);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.plugcore.plugCore.services;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+public class ExternalIpResolver {
+    private final Logger logger;
+    private final HttpTransport transport;
+    private final URI resolverUri;
+    private final String staticIp;
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final AtomicReference<CompletableFuture<String>> inFlight;
+    private volatile String cachedIp;
+    private volatile long resolvedAt;
+
+    public ExternalIpResolver(Logger logger, HttpTransport transport, String resolverUrl, String staticIp, Duration ttl, Duration staleWindow) {
+        this.logger = logger;
+        this.transport = transport;
+        this.resolverUri = URI.create(resolverUrl);
+        this.staticIp = staticIp == null || staticIp.isBlank() ? null : staticIp.trim();
+        this.ttlMillis = ttl.toMillis();
+        this.staleMillis = staleWindow.toMillis();
+        this.inFlight = new AtomicReference<>();
+    }
+
+    public CompletableFuture<String> resolve() {
+        if (staticIp != null) {
+            return CompletableFuture.completedFuture(staticIp);
+        }
+
+        String ip = cachedIp;
+        if (ip != null) {
+            long age = System.currentTimeMillis() - resolvedAt;
+            if (age < ttlMillis) {
+                return CompletableFuture.completedFuture(ip);
+            }
+            if (age < ttlMillis + staleMillis) {
+                refresh();
+                return CompletableFuture.completedFuture(ip);
+            }
+        }
+
+        return refresh();
+    }
+
+    public String getCachedIp() {
+        return staticIp != null ? staticIp : cachedIp;
+    }
+
+    public void invalidate() {
+        resolvedAt = 0L;
+    }
+
+    private CompletableFuture<String> refresh() {
+        while (true) {
+            CompletableFuture<String> current = inFlight.get();
+            if (current != null) {
+                return current;
+            }
+
+            CompletableFuture<String> created = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, created)) {
+                fetch().whenComplete((ip, throwable) -> {
+                    if (throwable == null) {
+                        cachedIp = ip;
+                        resolvedAt = System.currentTimeMillis();
+                    }
+                    inFlight.set(null);
+
+                    if (throwable == null) {
+                        created.complete(ip);
+                    } else if (cachedIp != null) {
+                        logger.warning("Could not refresh external IP, using last known address: " + throwable.getMessage());
+                        created.complete(cachedIp);
+                    } else {
+                        created.completeExceptionally(throwable);
+                    }
+                });
+                return created;
+            }
+        }
+    }
+
+    private CompletableFuture<String> fetch() {
+        HttpRequest request = transport.newRequest(resolverUri).build();
+
+        return transport.send("ip-resolver", request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() == 200) {
+                return response.body().trim();
+            }
+            throw new CompletionException(new IOException("Failed to get IP: " + response.statusCode()));
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package io.plugcore.plugCore.services;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class HttpEndpointStats {
+    private final LongAdder requests;
+    private final LongAdder failures;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+
+    public HttpEndpointStats() {
+        this.requests = new LongAdder();
+        this.failures = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0L);
+    }
+
+    void record(long elapsedNanos, boolean failed) {
+        requests.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public double getAverageMillis() {
+        long count = requests.sum();
+        return count == 0 ? 0.0 : totalNanos.sum() / (double) count / 1_000_000.0;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+}
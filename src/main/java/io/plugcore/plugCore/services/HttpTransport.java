@@ -0,0 +1,93 @@
+package io.plugcore.plugCore.services;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HttpTransport {
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final AtomicInteger inFlight;
+    private final Map<String, Endpoint> endpoints;
+    private final StartupTimings timings;
+    private final MetricsRegistry.HistogramFamily requestDurations;
+    private final MetricsRegistry.CounterFamily requestOutcomes;
+
+    public HttpTransport(Duration connectTimeout, Duration requestTimeout, StartupTimings timings, MetricsRegistry metrics) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("PlugCore-Http-", 0).factory());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+        this.requestTimeout = requestTimeout;
+        this.inFlight = new AtomicInteger();
+        this.endpoints = new ConcurrentHashMap<>();
+        this.timings = timings;
+        this.requestDurations = metrics.histogramFamily("plugcore_http_request_duration_seconds", "Backend request latency by endpoint.",
+                MetricsRegistry.LATENCY_BUCKETS, "endpoint");
+        this.requestOutcomes = metrics.counterFamily("plugcore_http_requests_total", "Backend requests by endpoint and outcome.",
+                "endpoint", "outcome");
+    }
+
+    public HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(requestTimeout);
+    }
+
+    public <T> CompletableFuture<HttpResponse<T>> send(String endpoint, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        Endpoint target = endpoints.computeIfAbsent(endpoint, this::newEndpoint);
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+
+        return httpClient.sendAsync(request, bodyHandler).whenComplete((response, throwable) -> {
+            inFlight.decrementAndGet();
+            boolean failed = throwable != null || response.statusCode() >= 500;
+            long elapsed = System.nanoTime() - start;
+            target.stats().record(elapsed, failed);
+            timings.recordElapsed(endpoint, elapsed);
+            target.duration().observeNanos(elapsed);
+            (failed ? target.failures() : target.successes()).increment();
+        });
+    }
+
+    private Endpoint newEndpoint(String endpoint) {
+        return new Endpoint(new HttpEndpointStats(), requestDurations.labels(endpoint),
+                requestOutcomes.labels(endpoint, "success"), requestOutcomes.labels(endpoint, "failure"));
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public Map<String, HttpEndpointStats> getEndpointStats() {
+        Map<String, HttpEndpointStats> stats = new HashMap<>();
+        endpoints.forEach((endpoint, target) -> stats.put(endpoint, target.stats()));
+        return Map.copyOf(stats);
+    }
+
+    public void shutdown() {
+        httpClient.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private record Endpoint(HttpEndpointStats stats, MetricsRegistry.Histogram duration,
+                            MetricsRegistry.Counter successes, MetricsRegistry.Counter failures) {
+    }
+}
@@ -0,0 +1,26 @@
+package io.plugcore.plugCore.services;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.plugcore.plugCore.models.JarDigest;
+
+import java.io.IOException;
+
+public class JarDigestAdapter extends TypeAdapter<JarDigest> {
+    @Override
+    public void write(JsonWriter out, JarDigest value) throws IOException {
+        out.value(value.toHex());
+    }
+
+    @Override
+    public JarDigest read(JsonReader in) throws IOException {
+        String hex = in.nextString();
+        JarDigest digest = JarDigest.tryFromHex(hex);
+        if (digest == null) {
+            throw new JsonSyntaxException("Invalid JAR digest: " + hex);
+        }
+        return digest;
+    }
+}
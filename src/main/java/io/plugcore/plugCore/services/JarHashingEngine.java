@@ -0,0 +1,109 @@
+package io.plugcore.plugCore.services;
+
+import io.plugcore.plugCore.models.JarDigest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+public class JarHashingEngine {
+    private static final int DIRECT_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE));
+
+    private final Logger logger;
+    private final ForkJoinPool pool;
+    private final StartupTimings timings;
+
+    public JarHashingEngine(Logger logger, int parallelism, StartupTimings timings) {
+        this.logger = logger;
+        this.timings = timings;
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("PlugCore-Hash-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    public <K> Map<K, JarDigest> hashAll(Map<K, File> files) {
+        Map<K, CompletableFuture<JarDigest>> futures = new HashMap<>();
+        for (Map.Entry<K, File> entry : files.entrySet()) {
+            futures.put(entry.getKey(), hashAsync(entry.getValue()));
+        }
+
+        Map<K, JarDigest> results = new HashMap<>();
+        for (Map.Entry<K, CompletableFuture<JarDigest>> entry : futures.entrySet()) {
+            try {
+                results.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                logger.severe("Error calculating hash for " + files.get(entry.getKey()).getName() + ": " + cause.getMessage());
+            }
+        }
+        return results;
+    }
+
+    public CompletableFuture<JarDigest> hashAsync(File file) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return hash(file);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, pool);
+    }
+
+    public JarDigest hash(File file) throws IOException {
+        long start = System.nanoTime();
+        MessageDigest digest = newDigest();
+
+        long size;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            size = channel.size();
+            digestBuffered(channel, digest);
+        }
+
+        timings.recordHash(file, size, start);
+
+        return JarDigest.fromBytes(digest.digest());
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void digestBuffered(FileChannel channel, MessageDigest digest) throws IOException {
+        ByteBuffer buffer = BUFFERS.get();
+        buffer.clear();
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
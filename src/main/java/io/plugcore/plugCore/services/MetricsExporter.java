@@ -0,0 +1,93 @@
+package io.plugcore.plugCore.services;
+
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+public class MetricsExporter {
+    private static final String FILE_NAME = "metrics.prom";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final Plugin plugin;
+    private final MetricsRegistry metrics;
+    private final Executor executor;
+    private final boolean fileEnabled;
+    private final Duration fileInterval;
+    private final int httpPort;
+    private final File metricsFile;
+    private BukkitTask fileTask;
+    private HttpServer httpServer;
+
+    public MetricsExporter(Plugin plugin, MetricsRegistry metrics, Executor executor, boolean fileEnabled,
+                           Duration fileInterval, int httpPort) {
+        this.plugin = plugin;
+        this.metrics = metrics;
+        this.executor = executor;
+        this.fileEnabled = fileEnabled;
+        this.fileInterval = fileInterval;
+        this.httpPort = httpPort;
+        this.metricsFile = new File(plugin.getDataFolder(), FILE_NAME);
+    }
+
+    public void start() {
+        if (fileEnabled) {
+            long intervalTicks = Math.max(20L, fileInterval.toSeconds() * 20L);
+            fileTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::writeFile, intervalTicks, intervalTicks);
+        }
+
+        if (httpPort > 0) {
+            try {
+                httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), httpPort), 0);
+                httpServer.createContext("/metrics", exchange -> {
+                    byte[] body = metrics.toPrometheusText().getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                    exchange.sendResponseHeaders(200, body.length);
+                    try (OutputStream output = exchange.getResponseBody()) {
+                        output.write(body);
+                    }
+                });
+                httpServer.setExecutor(executor);
+                httpServer.start();
+                plugin.getLogger().info("Serving metrics on http://127.0.0.1:" + httpPort + "/metrics");
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to start metrics endpoint on port " + httpPort + ": " + e.getMessage());
+                httpServer = null;
+            }
+        }
+    }
+
+    public void stop() {
+        if (fileTask != null) {
+            fileTask.cancel();
+            fileTask = null;
+            writeFile();
+        }
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+    }
+
+    private void writeFile() {
+        File tempFile = new File(metricsFile.getParentFile(), FILE_NAME + ".tmp");
+        try {
+            Files.createDirectories(metricsFile.getParentFile().toPath());
+            Files.writeString(tempFile.toPath(), metrics.toPrometheusText(), StandardCharsets.UTF_8);
+            Files.move(tempFile.toPath(), metricsFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write metrics file: " + e.getMessage());
+        }
+    }
+}
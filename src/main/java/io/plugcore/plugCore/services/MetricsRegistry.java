@@ -0,0 +1,272 @@
+package io.plugcore.plugCore.services;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+public class MetricsRegistry {
+    public static final double[] LATENCY_BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0, 30.0};
+
+    private final Map<String, Family> families;
+
+    public MetricsRegistry() {
+        this.families = new ConcurrentSkipListMap<>();
+    }
+
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) family(name, help, "counter").series.computeIfAbsent(formatLabels(labels), key -> new Counter());
+    }
+
+    public Histogram histogram(String name, String help, double[] buckets, String... labels) {
+        return (Histogram) family(name, help, "histogram").series.computeIfAbsent(formatLabels(labels), key -> new Histogram(buckets));
+    }
+
+    public CounterFamily counterFamily(String name, String help, String... labelNames) {
+        return new CounterFamily(family(name, help, "counter"), labelNames);
+    }
+
+    public HistogramFamily histogramFamily(String name, String help, double[] buckets, String... labelNames) {
+        return new HistogramFamily(family(name, help, "histogram"), buckets, labelNames);
+    }
+
+    public void gauge(String name, String help, DoubleSupplier supplier, String... labels) {
+        family(name, help, "gauge").series.put(formatLabels(labels), new Gauge(supplier));
+    }
+
+    public Map<String, Double> snapshot() {
+        Map<String, Double> values = new TreeMap<>();
+        for (Family family : families.values()) {
+            family.series.forEach((labels, metric) -> metric.snapshot(values, family.name, labels));
+        }
+        return values;
+    }
+
+    public String toPrometheusText() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Family family : families.values()) {
+            out.append("# HELP ").append(family.name).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(family.name).append(' ').append(family.type).append('\n');
+            family.series.forEach((labels, metric) -> metric.write(out, family.name, labels));
+        }
+        return out.toString();
+    }
+
+    private Family family(String name, String help, String type) {
+        Family family = families.computeIfAbsent(name, key -> new Family(key, help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type);
+        }
+        return family;
+    }
+
+    private static String formatLabels(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as name/value pairs");
+        }
+        if (labels.length == 0) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            builder.append(i == 0 ? "" : ",").append(labels[i]).append("=\"");
+            for (char c : labels[i + 1].toCharArray()) {
+                switch (c) {
+                    case '\\' -> builder.append("\\\\");
+                    case '"' -> builder.append("\\\"");
+                    case '\n' -> builder.append("\\n");
+                    default -> builder.append(c);
+                }
+            }
+            builder.append('"');
+        }
+        return builder.toString();
+    }
+
+    private static String formatLabels(String[] names, String[] values) {
+        if (names.length != values.length) {
+            throw new IllegalArgumentException("Expected " + names.length + " label values but got " + values.length);
+        }
+
+        String[] labels = new String[names.length * 2];
+        for (int i = 0; i < names.length; i++) {
+            labels[i * 2] = names[i];
+            labels[i * 2 + 1] = values[i];
+        }
+        return formatLabels(labels);
+    }
+
+    private static String series(String name, String labels, String extraLabel) {
+        if (labels.isEmpty() && extraLabel == null) {
+            return name;
+        }
+        if (extraLabel == null) {
+            return name + "{" + labels + "}";
+        }
+        return name + "{" + (labels.isEmpty() ? "" : labels + ",") + extraLabel + "}";
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private interface Metric {
+        void write(StringBuilder out, String name, String labels);
+
+        void snapshot(Map<String, Double> values, String name, String labels);
+    }
+
+    private static final class Family {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final Map<String, Metric> series;
+
+        private Family(String name, String help, String type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.series = new ConcurrentHashMap<>();
+        }
+    }
+
+    public static final class CounterFamily {
+        private final Family family;
+        private final String[] labelNames;
+
+        private CounterFamily(Family family, String[] labelNames) {
+            this.family = family;
+            this.labelNames = labelNames.clone();
+        }
+
+        public Counter labels(String... values) {
+            return (Counter) family.series.computeIfAbsent(formatLabels(labelNames, values), key -> new Counter());
+        }
+    }
+
+    public static final class HistogramFamily {
+        private final Family family;
+        private final double[] buckets;
+        private final String[] labelNames;
+
+        private HistogramFamily(Family family, double[] buckets, String[] labelNames) {
+            this.family = family;
+            this.buckets = buckets.clone();
+            this.labelNames = labelNames.clone();
+        }
+
+        public Histogram labels(String... values) {
+            return (Histogram) family.series.computeIfAbsent(formatLabels(labelNames, values), key -> new Histogram(buckets));
+        }
+    }
+
+    public static final class Counter implements Metric {
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            out.append(series(name, labels, null)).append(' ').append(value.sum()).append('\n');
+        }
+
+        @Override
+        public void snapshot(Map<String, Double> values, String name, String labels) {
+            values.put(series(name, labels, null), (double) value.sum());
+        }
+    }
+
+    public static final class Histogram implements Metric {
+        private final double[] bounds;
+        private final LongAdder[] buckets;
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+
+        private Histogram(double[] bounds) {
+            this.bounds = bounds.clone();
+            this.buckets = new LongAdder[bounds.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void observe(double value) {
+            int index = 0;
+            while (index < bounds.length && value > bounds[index]) {
+                index++;
+            }
+            buckets[index].increment();
+            count.increment();
+            sum.add(value);
+        }
+
+        public void observeNanos(long nanos) {
+            observe(nanos / 1_000_000_000.0);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getSum() {
+            return sum.sum();
+        }
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            long cumulative = 0L;
+            for (int i = 0; i < buckets.length; i++) {
+                cumulative += buckets[i].sum();
+                double bound = i < bounds.length ? bounds[i] : Double.POSITIVE_INFINITY;
+                out.append(series(name + "_bucket", labels, "le=\"" + formatValue(bound) + "\""))
+                        .append(' ').append(cumulative).append('\n');
+            }
+            out.append(series(name + "_sum", labels, null)).append(' ').append(formatValue(sum.sum())).append('\n');
+            out.append(series(name + "_count", labels, null)).append(' ').append(count.sum()).append('\n');
+        }
+
+        @Override
+        public void snapshot(Map<String, Double> values, String name, String labels) {
+            values.put(series(name + "_sum", labels, null), sum.sum());
+            values.put(series(name + "_count", labels, null), (double) count.sum());
+        }
+    }
+
+    private static final class Gauge implements Metric {
+        private final DoubleSupplier supplier;
+
+        private Gauge(DoubleSupplier supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            out.append(series(name, labels, null)).append(' ').append(formatValue(supplier.getAsDouble())).append('\n');
+        }
+
+        @Override
+        public void snapshot(Map<String, Double> values, String name, String labels) {
+            values.put(series(name, labels, null), supplier.getAsDouble());
+        }
+    }
+}
@@ -1,184 +1,267 @@
 package io.plugcore.plugCore.services;
 
+import io.plugcore.plugCore.models.AuthorizationStatus;
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.models.PluginState;
+import io.plugcore.plugCore.models.PluginStateSnapshot;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 public class PluginDependencyService {
     private final Plugin corePlugin;
     private final ValidationService validationService;
-    private final Map<String, Boolean> dependentPlugins;
-
-    public PluginDependencyService(Plugin corePlugin, ValidationService validationService) {
+    private final PluginHashIndex hashIndex;
+    private final JarHashingEngine hashingEngine;
+    private final EventDispatcher eventDispatcher;
+    private final StartupTimings timings;
+    private final Map<AuthorizationStatus, MetricsRegistry.Counter> outcomeCounters;
+    private final PluginHashRegistry hashRegistry;
+    private final PluginStateStore stateStore;
+    private final Set<JarDigest> provisionalHashes;
+    private final Map<JarDigest, Boolean> startupVerdicts;
+    private final Executor executor;
+    private volatile boolean initialScanComplete = false;
+
+    public PluginDependencyService(Plugin corePlugin, ValidationService validationService, PluginHashIndex hashIndex,
+                                   JarHashingEngine hashingEngine, EventDispatcher eventDispatcher, StartupTimings timings,
+                                   MetricsRegistry metrics, Executor executor) {
         this.corePlugin = corePlugin;
         this.validationService = validationService;
-        this.dependentPlugins = new HashMap<>();
+        this.hashIndex = hashIndex;
+        this.hashingEngine = hashingEngine;
+        this.eventDispatcher = eventDispatcher;
+        this.timings = timings;
+        this.outcomeCounters = new EnumMap<>(AuthorizationStatus.class);
+        MetricsRegistry.CounterFamily outcomes = metrics.counterFamily("plugcore_authorization_outcomes_total",
+                "Plugin authorization outcomes by status.", "status");
+        for (AuthorizationStatus status : AuthorizationStatus.values()) {
+            outcomeCounters.put(status, outcomes.labels(status.name().toLowerCase(Locale.ROOT)));
+        }
+        this.executor = executor;
+        this.hashRegistry = new PluginHashRegistry();
+        this.stateStore = new PluginStateStore();
+        this.provisionalHashes = ConcurrentHashMap.newKeySet();
+        this.startupVerdicts = new ConcurrentHashMap<>();
     }
 
-    public void scanPlugins() {
-        Plugin[] plugins = Bukkit.getPluginManager().getPlugins();
+    public CompletableFuture<Void> scanPlugins() {
+        List<Plugin> plugins = findDependentPlugins(false);
 
-        for (Plugin plugin : plugins) {
-            if (plugin.equals(corePlugin)) {
-                continue;
+        return CompletableFuture.runAsync(() -> {
+            Map<Plugin, JarDigest> hashes = hashPlugins(plugins);
+
+            for (Plugin plugin : plugins) {
+                JarDigest jarHash = hashes.get(plugin);
+
+                if (jarHash == null) {
+                    corePlugin.getLogger().severe("Failed to calculate hash for plugin: " + plugin.getName());
+                    continue;
+                }
+
+                stateStore.markPending(jarHash);
             }
+            initialScanComplete = true;
+        }, executor);
+    }
 
-            var meta = plugin.getPluginMeta();
-            List<String> dependencies = meta.getPluginDependencies();
-            List<String> softDependencies = meta.getPluginSoftDependencies();
+    public CompletableFuture<Void> validateStartupPlugins(CompletableFuture<Boolean> linkCheck) {
+        List<Plugin> plugins = findDependentPlugins(true);
+        if (plugins.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-            boolean dependsOnCore = dependencies.contains("PlugCore");
-            boolean softDependsOnCore = softDependencies.contains("PlugCore");
+        return CompletableFuture.supplyAsync(() -> hashPlugins(plugins), executor).thenCompose(hashes -> {
+            Map<JarDigest, Plugin> uncached = new LinkedHashMap<>();
 
-            if (dependsOnCore || softDependsOnCore) {
-                String jarHash = calculatePluginHash(plugin);
+            for (Plugin plugin : plugins) {
+                JarDigest jarHash = hashes.get(plugin);
 
                 if (jarHash == null) {
-                    corePlugin.getLogger().severe("Failed to calculate hash for plugin: " + plugin.getName());
+                    corePlugin.getLogger().severe("Failed to calculate hash for STARTUP plugin: " + plugin.getName());
                     continue;
                 }
 
-                if (dependentPlugins.containsKey(jarHash)) {
-                    continue;
+                stateStore.markPending(jarHash);
+                Boolean cachedAuthorization = validationService.getCachedPluginAuthorization(jarHash);
+                if (cachedAuthorization != null) {
+                    provisionalHashes.add(jarHash);
+                    applyStartupVerdict(plugin, jarHash, cachedAuthorization);
+                } else {
+                    uncached.put(jarHash, plugin);
                 }
+            }
 
-                dependentPlugins.put(jarHash, false);
+            if (uncached.isEmpty()) {
+                return CompletableFuture.<Void>completedFuture(null);
             }
+
+            return linkCheck.handle((valid, throwable) -> valid)
+                    .thenCompose(valid -> validationService.arePluginsAuthorized(uncached.keySet()))
+                    .thenAccept(results -> uncached.forEach((jarHash, plugin) -> {
+                        Boolean authorized = results.get(jarHash);
+                        if (authorized == null) {
+                            corePlugin.getLogger().severe("Failed to validate STARTUP plugin '" + plugin.getName() + "': Could not reach PlugCore");
+                            updateState(jarHash, AuthorizationStatus.ERROR, "Could not reach PlugCore");
+                        } else {
+                            applyStartupVerdict(plugin, jarHash, authorized);
+                        }
+                    }));
+        });
+    }
+
+    private void applyStartupVerdict(Plugin plugin, JarDigest jarHash, boolean authorized) {
+        startupVerdicts.put(jarHash, authorized);
+        if (!authorized) {
+            corePlugin.getLogger().severe("STARTUP plugin '" + plugin.getName() + "' is NOT authorized!");
+            corePlugin.getLogger().severe("Reason: Server not linked or plugin not purchased.");
+            corePlugin.getLogger().severe("Link your server at plugcore.io or purchase this plugin.");
+            updateState(jarHash, AuthorizationStatus.DENIED, "Server not linked or plugin not purchased");
+        } else {
+            corePlugin.getLogger().info("STARTUP plugin '" + plugin.getName() + "' is authorized! ✓");
+            updateState(jarHash, AuthorizationStatus.AUTHORIZED, null);
         }
     }
 
-    public void scanAndValidateStartupPlugins() {
-        Plugin[] plugins = Bukkit.getPluginManager().getPlugins();
+    private List<Plugin> findDependentPlugins(boolean startupOnly) {
+        List<Plugin> result = new ArrayList<>();
 
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : Bukkit.getPluginManager().getPlugins()) {
             if (plugin.equals(corePlugin)) {
                 continue;
             }
 
-            var description = plugin.getDescription();
-            String loadPhase = description.getLoad() != null ? description.getLoad().toString() : "POSTWORLD";
+            if (startupOnly) {
+                var description = plugin.getDescription();
+                String loadPhase = description.getLoad() != null ? description.getLoad().toString() : "POSTWORLD";
 
-            if (!"STARTUP".equals(loadPhase)) {
-                continue;
+                if (!"STARTUP".equals(loadPhase)) {
+                    continue;
+                }
             }
 
-            var meta = plugin.getPluginMeta();
-            List<String> dependencies = meta.getPluginDependencies();
-            List<String> softDependencies = meta.getPluginSoftDependencies();
-
-            boolean dependsOnCore = dependencies.contains("PlugCore");
-            boolean softDependsOnCore = softDependencies.contains("PlugCore");
-
-            if (dependsOnCore || softDependsOnCore) {
-                String jarHash = calculatePluginHash(plugin);
+            if (dependsOnCore(plugin)) {
+                result.add(plugin);
+            }
+        }
 
-                if (jarHash == null) {
-                    corePlugin.getLogger().severe("Failed to calculate hash for STARTUP plugin: " + plugin.getName());
-                    continue;
-                }
+        return result;
+    }
 
-                corePlugin.getLogger().info("Validating STARTUP plugin: " + plugin.getName());
+    private Map<Plugin, JarDigest> hashPlugins(List<Plugin> plugins) {
+        Map<Plugin, JarDigest> hashes = new HashMap<>();
+        Map<Plugin, java.io.File> pending = new HashMap<>();
+        PluginFolderIndex folderIndex = newFolderIndex();
 
-                try {
-                    boolean authorized = validationService.isPluginAuthorizedSync(jarHash);
+        for (Plugin plugin : plugins) {
+            java.io.File pluginFile = getPluginJarFile(plugin, folderIndex);
+            if (pluginFile == null || !pluginFile.exists()) {
+                corePlugin.getLogger().severe("Plugin JAR file not found for: " + plugin.getName());
+                continue;
+            }
 
-                    if (!authorized) {
-                        corePlugin.getLogger().severe("STARTUP plugin '" + plugin.getName() + "' is NOT authorized!");
-                        corePlugin.getLogger().severe("Reason: Server not linked or plugin not purchased.");
-                        corePlugin.getLogger().severe("Link your server at plugcore.io or purchase this plugin.");
-                        dependentPlugins.put(jarHash, false);
-                    } else {
-                        corePlugin.getLogger().info("STARTUP plugin '" + plugin.getName() + "' is authorized! ✓");
-                        dependentPlugins.put(jarHash, true);
-                    }
+            JarDigest indexedHash = hashIndex.lookup(pluginFile);
+            if (indexedHash != null) {
+                hashRegistry.register(plugin, indexedHash, pluginFile);
+                hashes.put(plugin, indexedHash);
+            } else {
+                pending.put(plugin, pluginFile);
+            }
+        }
 
-                } catch (Exception e) {
-                    corePlugin.getLogger().severe("Failed to validate STARTUP plugin '" + plugin.getName() + "': " + e.getMessage());
-                    dependentPlugins.put(jarHash, false);
-                }
+        if (!pending.isEmpty()) {
+            Map<Plugin, JarDigest> computed = hashingEngine.hashAll(pending);
+            for (Map.Entry<Plugin, JarDigest> entry : computed.entrySet()) {
+                java.io.File pluginFile = pending.get(entry.getKey());
+                hashIndex.record(pluginFile, entry.getValue());
+                hashRegistry.register(entry.getKey(), entry.getValue(), pluginFile);
+                hashes.put(entry.getKey(), entry.getValue());
             }
         }
+
+        hashIndex.save();
+        return hashes;
     }
 
-    private String calculatePluginHash(Plugin plugin) {
+    private JarDigest calculatePluginHash(Plugin plugin) {
         try {
-            java.io.File pluginFile = getPluginJarFile(plugin);
+            java.io.File pluginFile = getPluginJarFile(plugin, newFolderIndex());
             if (pluginFile == null || !pluginFile.exists()) {
                 corePlugin.getLogger().severe("Plugin JAR file not found for: " + plugin.getName());
                 return null;
             }
 
-            java.security.MessageDigest digest = java.security.MessageDigest.getInstance("SHA-256");
-            java.io.FileInputStream fis = new java.io.FileInputStream(pluginFile);
-            byte[] byteArray = new byte[1024];
-            int bytesCount;
-
-            while ((bytesCount = fis.read(byteArray)) != -1) {
-                digest.update(byteArray, 0, bytesCount);
-            }
-            fis.close();
-
-            byte[] bytes = digest.digest();
-            StringBuilder sb = new StringBuilder();
-            for (byte b : bytes) {
-                sb.append(String.format("%02x", b));
+            JarDigest indexedHash = hashIndex.lookup(pluginFile);
+            if (indexedHash != null) {
+                hashRegistry.register(plugin, indexedHash, pluginFile);
+                return indexedHash;
             }
 
-            return sb.toString();
+            JarDigest hash = hashingEngine.hash(pluginFile);
+            hashIndex.record(pluginFile, hash);
+            hashRegistry.register(plugin, hash, pluginFile);
+            return hash;
         } catch (Exception e) {
             corePlugin.getLogger().severe("Error calculating plugin hash: " + e.getMessage());
             return null;
         }
     }
 
-    public String calculatePluginJarHash(Plugin plugin) {
+    public JarDigest calculatePluginJarHash(Plugin plugin) {
+        JarDigest registeredHash = hashRegistry.getHash(plugin);
+        if (registeredHash != null) {
+            return registeredHash;
+        }
         return calculatePluginHash(plugin);
     }
 
-    private java.io.File getPluginJarFile(Plugin plugin) {
+    private PluginFolderIndex newFolderIndex() {
+        return new PluginFolderIndex(corePlugin.getDataFolder().getParentFile());
+    }
+
+    private java.io.File getPluginJarFile(Plugin plugin, PluginFolderIndex folderIndex) {
+        long start = System.nanoTime();
+        try {
+            return locatePluginJarFile(plugin, folderIndex);
+        } finally {
+            timings.record(StartupTimings.DISCOVERY, start);
+        }
+    }
+
+    private java.io.File locatePluginJarFile(Plugin plugin, PluginFolderIndex folderIndex) {
         try {
+            java.io.File codeSource = folderIndex.resolveCodeSource(plugin.getClass());
+            if (codeSource != null) {
+                return codeSource;
+            }
+
             String pluginName = plugin.getName();
             String pluginVersion = plugin.getDescription().getVersion();
-            java.io.File pluginsFolder = new java.io.File("plugins");
 
-            if (!pluginsFolder.exists() || !pluginsFolder.isDirectory()) {
+            if (!folderIndex.isAvailable()) {
                 corePlugin.getLogger().severe("Plugins folder not found!");
                 return null;
             }
 
-            java.io.File exactMatch = null;
-            java.io.File partialMatch = null;
-
-            java.io.File[] files = pluginsFolder.listFiles((dir, name) -> name.toLowerCase().endsWith(".jar"));
-
-            if (files == null || files.length == 0) {
+            if (folderIndex.size() == 0) {
                 corePlugin.getLogger().severe("No JAR files found in plugins folder!");
                 return null;
             }
 
-            for (java.io.File file : files) {
-                String fileName = file.getName();
-                String lowerFileName = fileName.toLowerCase();
-                String lowerPluginName = pluginName.toLowerCase();
-
-                if (fileName.equals(pluginName + ".jar") ||
-                        fileName.equals(pluginName + "-" + pluginVersion + ".jar")) {
-                    exactMatch = file;
-                    break;
-                }
-
-                if (partialMatch == null &&
-                        (lowerFileName.startsWith(lowerPluginName + "-") ||
-                                lowerFileName.startsWith(lowerPluginName + ".jar"))) {
-                    partialMatch = file;
-                }
-            }
-
-            java.io.File result = exactMatch != null ? exactMatch : partialMatch;
+            java.io.File result = folderIndex.find(pluginName, pluginVersion);
 
             if (result == null) {
                 corePlugin.getLogger().severe("Could not find original JAR for: " + pluginName);
@@ -193,66 +276,205 @@ public class PluginDependencyService {
         }
     }
 
-    public void validateDependentPlugins() {
-        if (dependentPlugins.isEmpty()) {
+    public CompletableFuture<Void> validateDependentPlugins() {
+        PluginStateSnapshot snapshot = stateStore.snapshot();
+        if (snapshot.getStates().isEmpty()) {
             corePlugin.getLogger().info("No dependent plugins found to validate.");
-            return;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        corePlugin.getLogger().info("Validating " + snapshot.getStates().size() + " dependent plugin(s)...");
+
+        int totalPlugins = snapshot.getStates().size();
+        List<JarDigest> pendingHashes = new ArrayList<>();
+        int cachedAuthorized = 0;
+
+        for (PluginState state : snapshot.getStates().values()) {
+            if (state.isAuthorized() && !provisionalHashes.contains(state.getJarHash())) {
+                cachedAuthorized++;
+            } else {
+                pendingHashes.add(state.getJarHash());
+            }
+        }
+
+        if (pendingHashes.isEmpty()) {
+            logValidationSummary(totalPlugins, cachedAuthorized, 0);
+            return publishStartupVerdicts();
         }
 
-        corePlugin.getLogger().info("Validating " + dependentPlugins.size() + " dependent plugin(s)...");
+        int alreadyAuthorized = cachedAuthorized;
+        return validationService.arePluginsAuthorized(pendingHashes).thenCompose(results ->
+                runOnMainThread(() -> applyValidationRound(pendingHashes, results, alreadyAuthorized, totalPlugins, true,
+                        drainStartupVerdicts()))
+        ).exceptionally(throwable -> {
+            corePlugin.getLogger().severe("Error validating dependent plugins: " + throwable.getMessage());
+            logValidationSummary(totalPlugins, alreadyAuthorized, pendingHashes.size());
+            publishStartupVerdicts();
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> publishStartupVerdicts() {
+        if (startupVerdicts.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return runOnMainThread(() -> eventDispatcher.pluginsValidated(drainStartupVerdicts()));
+    }
+
+    private Map<String, Boolean> drainStartupVerdicts() {
+        Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        for (JarDigest jarHash : List.copyOf(startupVerdicts.keySet())) {
+            Boolean authorized = startupVerdicts.remove(jarHash);
+            if (authorized != null) {
+                verdicts.put(getPluginName(jarHash), authorized);
+            }
+        }
+        return verdicts;
+    }
+
+    public CompletableFuture<Void> revalidateDuePlugins(long recheckMillis, boolean linked) {
+        long currentTime = System.currentTimeMillis();
+        PluginStateSnapshot snapshot = stateStore.snapshot();
+        List<JarDigest> dueHashes = new ArrayList<>();
+        int settledAuthorized = 0;
+
+        for (PluginState state : snapshot.getStates().values()) {
+            boolean settled = state.getStatus() == AuthorizationStatus.AUTHORIZED || state.getStatus() == AuthorizationStatus.DENIED;
+            if (!settled || provisionalHashes.contains(state.getJarHash()) || currentTime - state.getUpdatedAt() >= recheckMillis) {
+                dueHashes.add(state.getJarHash());
+            } else if (state.isAuthorized()) {
+                settledAuthorized++;
+            }
+        }
+
+        if (dueHashes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        int alreadyAuthorized = settledAuthorized;
+        int totalPlugins = snapshot.getStates().size();
+        CompletableFuture<Map<JarDigest, Boolean>> checks = linked
+                ? validationService.arePluginsAuthorized(dueHashes)
+                : CompletableFuture.completedFuture(Map.of());
+        return checks.thenCompose(results ->
+                runOnMainThread(() -> applyValidationRound(dueHashes, results, alreadyAuthorized, totalPlugins, false, Map.of())));
+    }
+
+    private void updateState(JarDigest jarHash, AuthorizationStatus status, String reason) {
+        stateStore.update(jarHash, status, reason);
+        outcomeCounters.get(status).increment();
+    }
+
+    private CompletableFuture<Void> runOnMainThread(Runnable task) {
+        return supplyOnMainThread(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> supplyOnMainThread(Supplier<T> task) {
+        CompletableFuture<T> completion = new CompletableFuture<>();
+        Bukkit.getScheduler().runTask(corePlugin, () -> {
+            try {
+                completion.complete(task.get());
+            } catch (Exception e) {
+                completion.completeExceptionally(e);
+            }
+        });
+        return completion;
+    }
 
-        int totalPlugins = dependentPlugins.size();
-        java.util.concurrent.atomic.AtomicInteger processedCount = new java.util.concurrent.atomic.AtomicInteger(0);
-        java.util.concurrent.atomic.AtomicInteger authorizedCount = new java.util.concurrent.atomic.AtomicInteger(0);
-        java.util.concurrent.atomic.AtomicInteger failedCount = new java.util.concurrent.atomic.AtomicInteger(0);
+    private void applyValidationRound(List<JarDigest> checkedHashes, Map<JarDigest, Boolean> results,
+                                      int alreadyAuthorized, int totalPlugins, boolean alwaysLog,
+                                      Map<String, Boolean> startupChanges) {
+        int authorizedCount = alreadyAuthorized;
+        int failedCount = 0;
+        List<Plugin> toDisable = new ArrayList<>();
+        List<String> deniedNames = new ArrayList<>();
+        List<String> unverifiedNames = new ArrayList<>();
+        Map<String, Boolean> changes = new LinkedHashMap<>(startupChanges);
+
+        for (JarDigest jarHash : checkedHashes) {
+            PluginState previous = stateStore.get(jarHash);
+            Boolean result = results.get(jarHash);
+            String pluginName = getPluginName(jarHash);
 
-        for (String jarHash : dependentPlugins.keySet()) {
-            Boolean cachedResult = dependentPlugins.get(jarHash);
-            if (cachedResult != null && cachedResult) {
-                authorizedCount.incrementAndGet();
-                if (processedCount.incrementAndGet() == totalPlugins) {
-                    logValidationSummary(totalPlugins, authorizedCount.get(), failedCount.get());
+            if (result == null) {
+                failedCount++;
+                updateState(jarHash, AuthorizationStatus.ERROR, "Could not reach PlugCore");
+                unverifiedNames.add(pluginName);
+                if (previous != null && previous.isAuthorized()) {
+                    changes.put(pluginName, false);
                 }
                 continue;
             }
 
-            validationService.isPluginAuthorized(jarHash).thenAccept(authorized -> {
-                dependentPlugins.put(jarHash, authorized);
+            boolean authorized = result;
+            AuthorizationStatus status = authorized ? AuthorizationStatus.AUTHORIZED : AuthorizationStatus.DENIED;
+            updateState(jarHash, status, authorized ? null : "Plugin not purchased");
+            provisionalHashes.remove(jarHash);
+            if (previous == null || previous.getStatus() != status) {
+                changes.put(pluginName, authorized);
+            }
 
-                if (!authorized) {
-                    failedCount.incrementAndGet();
-                    Plugin pluginToDisable = findPluginByHash(jarHash);
-                    String pluginName = pluginToDisable != null ? pluginToDisable.getName() : "Unknown";
+            if (authorized) {
+                authorizedCount++;
+                continue;
+            }
 
-                    corePlugin.getLogger().warning("Plugin '" + pluginName + "' is NOT validated!");
-                    corePlugin.getLogger().warning("Make sure you have purchased this plugin on plugcore.io");
+            failedCount++;
+            deniedNames.add(pluginName);
+            Plugin plugin = findPluginByHash(jarHash);
+            if (plugin != null && plugin.isEnabled()) {
+                toDisable.add(plugin);
+            }
+        }
 
-                    if (pluginToDisable != null && pluginToDisable.isEnabled()) {
-                        Bukkit.getScheduler().runTask(corePlugin, () -> {
-                            Bukkit.getPluginManager().disablePlugin(pluginToDisable);
-                            corePlugin.getLogger().warning("Disabled " + pluginToDisable.getName() + " - Server not authorized");
-                        });
-                    }
-                } else {
-                    authorizedCount.incrementAndGet();
-                    Plugin authorizedPlugin = findPluginByHash(jarHash);
-                    String pluginName = authorizedPlugin != null ? authorizedPlugin.getName() : "Unknown";
-                    corePlugin.getLogger().info("✓ Plugin '" + pluginName + "' is authorized and enabled!");
-                }
+        List<Plugin> disableOrder = orderForDisable(toDisable);
+        for (Plugin plugin : disableOrder) {
+            long start = System.nanoTime();
+            Bukkit.getPluginManager().disablePlugin(plugin);
+            timings.record(StartupTimings.DISABLE, start);
+        }
 
-                if (processedCount.incrementAndGet() == totalPlugins) {
-                    logValidationSummary(totalPlugins, authorizedCount.get(), failedCount.get());
-                }
-            }).exceptionally(throwable -> {
-                failedCount.incrementAndGet();
-                corePlugin.getLogger().severe("Error validating hash: " + throwable.getMessage());
+        eventDispatcher.pluginsValidated(changes);
 
-                if (processedCount.incrementAndGet() == totalPlugins) {
-                    logValidationSummary(totalPlugins, authorizedCount.get(), failedCount.get());
-                }
-                return null;
-            });
+        if (!alwaysLog && changes.isEmpty() && disableOrder.isEmpty() && unverifiedNames.isEmpty()) {
+            return;
         }
+
+        logValidationSummary(totalPlugins, authorizedCount, failedCount);
+        if (!deniedNames.isEmpty()) {
+            corePlugin.getLogger().warning("Not authorized: " + String.join(", ", deniedNames)
+                    + (disableOrder.isEmpty() ? "" : " (disabled " + disableOrder.size() + ")")
+                    + ". Make sure you have purchased these plugins on plugcore.io");
+        }
+        if (!unverifiedNames.isEmpty()) {
+            corePlugin.getLogger().warning("Could not verify: " + String.join(", ", unverifiedNames)
+                    + ". They will be checked again later.");
+        }
+    }
+
+    private List<Plugin> orderForDisable(List<Plugin> plugins) {
+        List<Plugin> ordered = new ArrayList<>(plugins.size());
+        Set<Plugin> visited = new HashSet<>();
+        for (Plugin plugin : plugins) {
+            visitDependentsFirst(plugin, plugins, visited, ordered);
+        }
+        return ordered;
+    }
+
+    private void visitDependentsFirst(Plugin plugin, List<Plugin> candidates, Set<Plugin> visited, List<Plugin> ordered) {
+        if (!visited.add(plugin)) {
+            return;
+        }
+
+        for (Plugin candidate : candidates) {
+            if (candidate != plugin && dependsOn(candidate, plugin.getName())) {
+                visitDependentsFirst(candidate, candidates, visited, ordered);
+            }
+        }
+        ordered.add(plugin);
     }
 
     private void logValidationSummary(int total, int authorized, int failed) {
@@ -265,36 +487,199 @@ public class PluginDependencyService {
         }
     }
 
-    private Plugin findPluginByHash(String hash) {
-        for (Plugin plugin : Bukkit.getPluginManager().getPlugins()) {
-            String pluginHash = calculatePluginHash(plugin);
-            if (hash.equals(pluginHash)) {
-                return plugin;
+    private Plugin findPluginByHash(JarDigest hash) {
+        return hashRegistry.getPlugin(hash);
+    }
+
+    public Plugin getPluginByHash(JarDigest hash) {
+        return hashRegistry.getPlugin(hash);
+    }
+
+    public String getPluginName(JarDigest hash) {
+        String pluginName = hashRegistry.getPluginName(hash);
+        return pluginName != null ? pluginName : hash.toHex();
+    }
+
+    public java.io.File getPluginFile(JarDigest hash) {
+        return hashRegistry.getFile(hash);
+    }
+
+    public void handlePluginEnabled(Plugin plugin) {
+        if (!initialScanComplete || plugin.equals(corePlugin) || !dependsOnCore(plugin) || hashRegistry.getHash(plugin) != null) {
+            return;
+        }
+
+        CompletableFuture.supplyAsync(() -> refreshPlugins(List.of(plugin)), executor)
+                .thenCompose(this::validateHashes)
+                .exceptionally(throwable -> {
+                    corePlugin.getLogger().warning("Failed to validate newly enabled plugin '" + plugin.getName() + "': " + throwable.getMessage());
+                    return null;
+                });
+    }
+
+    public void handleJarsChanged(Set<java.io.File> changedFiles) {
+        if (!initialScanComplete || changedFiles.isEmpty()) {
+            return;
+        }
+
+        Set<java.nio.file.Path> changedPaths = new HashSet<>();
+        for (java.io.File file : changedFiles) {
+            changedPaths.add(normalizePath(file));
+        }
+
+        supplyOnMainThread(() -> {
+            List<Plugin> affected = new ArrayList<>();
+            PluginFolderIndex folderIndex = newFolderIndex();
+            for (Plugin plugin : findDependentPlugins(false)) {
+                java.io.File pluginFile = getPluginJarFile(plugin, folderIndex);
+                if (pluginFile != null && changedPaths.contains(normalizePath(pluginFile))) {
+                    affected.add(plugin);
+                }
+            }
+            return affected;
+        }).thenApplyAsync(affected -> affected.isEmpty() ? List.<JarDigest>of() : refreshPlugins(affected), executor)
+                .thenCompose(this::validateHashes)
+                .exceptionally(throwable -> {
+                    corePlugin.getLogger().warning("Failed to re-validate changed plugin JARs: " + throwable.getMessage());
+                    return null;
+                });
+    }
+
+    public void rescanPlugins() {
+        if (!initialScanComplete) {
+            return;
+        }
+
+        supplyOnMainThread(() -> findDependentPlugins(false))
+                .thenApplyAsync(this::refreshPlugins, executor)
+                .thenCompose(this::validateHashes)
+                .exceptionally(throwable -> {
+                    corePlugin.getLogger().warning("Failed to rescan dependent plugin JARs: " + throwable.getMessage());
+                    return null;
+                });
+    }
+
+    private List<JarDigest> refreshPlugins(List<Plugin> plugins) {
+        Map<Plugin, JarDigest> previousHashes = new HashMap<>();
+        for (Plugin plugin : plugins) {
+            JarDigest previousHash = hashRegistry.getHash(plugin);
+            if (previousHash != null) {
+                previousHashes.put(plugin, previousHash);
             }
         }
-        return null;
+
+        Map<Plugin, JarDigest> hashes = hashPlugins(plugins);
+        List<JarDigest> delta = new ArrayList<>();
+        for (Plugin plugin : plugins) {
+            JarDigest jarHash = hashes.get(plugin);
+            if (jarHash == null) {
+                continue;
+            }
+
+            JarDigest previousHash = previousHashes.get(plugin);
+            if (previousHash != null && !previousHash.equals(jarHash)) {
+                corePlugin.getLogger().info("JAR of plugin '" + plugin.getName() + "' changed, validating the new build.");
+                stateStore.remove(previousHash);
+                provisionalHashes.remove(previousHash);
+            } else if (previousHash != null && isSettledAuthorized(jarHash)) {
+                continue;
+            }
+
+            stateStore.markPending(jarHash);
+            delta.add(jarHash);
+        }
+        return delta;
+    }
+
+    private boolean isSettledAuthorized(JarDigest jarHash) {
+        PluginState state = stateStore.get(jarHash);
+        return state != null && state.isAuthorized() && !provisionalHashes.contains(jarHash);
+    }
+
+    private CompletableFuture<Void> validateHashes(List<JarDigest> jarHashes) {
+        if (jarHashes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        PluginStateSnapshot snapshot = stateStore.snapshot();
+        int alreadyAuthorized = 0;
+        for (PluginState state : snapshot.getStates().values()) {
+            if (state.isAuthorized() && !jarHashes.contains(state.getJarHash())) {
+                alreadyAuthorized++;
+            }
+        }
+
+        int otherAuthorized = alreadyAuthorized;
+        int totalPlugins = snapshot.getStates().size();
+        return validationService.arePluginsAuthorized(jarHashes).thenCompose(results ->
+                runOnMainThread(() -> applyValidationRound(jarHashes, results, otherAuthorized, totalPlugins, true, Map.of())));
+    }
+
+    private static java.nio.file.Path normalizePath(java.io.File file) {
+        return file.getAbsoluteFile().toPath().normalize();
+    }
+
+    public void handlePluginDisabled(Plugin plugin) {
+        JarDigest jarHash = hashRegistry.getHash(plugin);
+        if (jarHash != null && stateStore.get(jarHash) != null) {
+            hashRegistry.detach(plugin);
+        } else {
+            hashRegistry.invalidate(plugin);
+        }
+    }
+
+    private boolean dependsOnCore(Plugin plugin) {
+        return dependsOn(plugin, "PlugCore");
+    }
+
+    private boolean dependsOn(Plugin plugin, String dependencyName) {
+        var meta = plugin.getPluginMeta();
+        return meta.getPluginDependencies().contains(dependencyName) || meta.getPluginSoftDependencies().contains(dependencyName);
     }
 
     public boolean isPluginAuthorized(String pluginName) {
-        return dependentPlugins.getOrDefault(pluginName, false);
+        if (pluginName == null) {
+            return false;
+        }
+        return isHashAuthorized(hashRegistry.getHashByName(pluginName));
+    }
+
+    public boolean isPluginAuthorized(Plugin plugin) {
+        if (plugin == null) {
+            return false;
+        }
+
+        return isHashAuthorized(hashRegistry.getHash(plugin));
     }
 
-    public List<String> getUnauthorizedPlugins() {
-        return dependentPlugins.entrySet().stream()
-                .filter(entry -> !entry.getValue())
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+    private boolean isHashAuthorized(JarDigest jarHash) {
+        if (jarHash == null) {
+            return false;
+        }
+
+        PluginState state = stateStore.get(jarHash);
+        return state != null && state.isAuthorized();
     }
 
-    public List<String> getAuthorizedPlugins() {
-        return dependentPlugins.entrySet().stream()
-                .filter(Map.Entry::getValue)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+    public List<JarDigest> getUnauthorizedPlugins() {
+        return stateStore.snapshot().getUnauthorized();
     }
 
-    public Map<String, Boolean> getAllDependentPlugins() {
-        return new HashMap<>(dependentPlugins);
+    public List<JarDigest> getAuthorizedPlugins() {
+        return stateStore.snapshot().getAuthorized();
     }
-}
 
+    public Map<JarDigest, PluginState> getPluginStates() {
+        return stateStore.snapshot().getStates();
+    }
+
+    public PluginStateSnapshot getStateSnapshot() {
+        return stateStore.snapshot();
+    }
+
+    public Map<JarDigest, Boolean> getAllDependentPlugins() {
+        Map<JarDigest, Boolean> result = new HashMap<>();
+        stateStore.snapshot().getStates().forEach((jarHash, state) -> result.put(jarHash, state.isAuthorized()));
+        return result;
+    }
+}
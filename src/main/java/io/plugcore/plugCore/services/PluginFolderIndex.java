@@ -0,0 +1,95 @@
+package io.plugcore.plugCore.services;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class PluginFolderIndex {
+    private static final String JAR_SUFFIX = ".jar";
+
+    private final File pluginsFolder;
+    private File canonicalFolder;
+    private Map<String, File> filesByName;
+    private Map<String, File> filesByKey;
+
+    public PluginFolderIndex(File pluginsFolder) {
+        this.pluginsFolder = pluginsFolder;
+    }
+
+    public boolean isAvailable() {
+        return pluginsFolder.isDirectory();
+    }
+
+    public synchronized int size() {
+        ensureBuilt();
+        return filesByName.size();
+    }
+
+    public synchronized File find(String pluginName, String pluginVersion) {
+        ensureBuilt();
+
+        File exactMatch = filesByName.get(pluginName + JAR_SUFFIX);
+        if (exactMatch == null) {
+            exactMatch = filesByName.get(pluginName + "-" + pluginVersion + JAR_SUFFIX);
+        }
+        if (exactMatch != null) {
+            return exactMatch;
+        }
+        return filesByKey.get(normalize(pluginName));
+    }
+
+    public synchronized File resolveCodeSource(Class<?> pluginClass) {
+        try {
+            CodeSource codeSource = pluginClass.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return null;
+            }
+
+            File file = new File(codeSource.getLocation().toURI());
+            File parent = file.getParentFile();
+            if (!file.isFile() || parent == null || !file.getName().toLowerCase(Locale.ROOT).endsWith(JAR_SUFFIX)) {
+                return null;
+            }
+
+            if (canonicalFolder == null) {
+                canonicalFolder = pluginsFolder.getCanonicalFile();
+            }
+            return parent.getCanonicalFile().equals(canonicalFolder) ? file : null;
+        } catch (URISyntaxException | IOException | SecurityException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void ensureBuilt() {
+        if (filesByName != null) {
+            return;
+        }
+
+        filesByName = new HashMap<>();
+        filesByKey = new HashMap<>();
+
+        File[] files = pluginsFolder.listFiles((dir, name) -> name.toLowerCase(Locale.ROOT).endsWith(JAR_SUFFIX));
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            String fileName = file.getName();
+            filesByName.put(fileName, file);
+
+            String baseName = normalize(fileName.substring(0, fileName.length() - JAR_SUFFIX.length()));
+            filesByKey.putIfAbsent(baseName, file);
+            for (int dash = baseName.indexOf('-'); dash >= 0; dash = baseName.indexOf('-', dash + 1)) {
+                filesByKey.putIfAbsent(baseName.substring(0, dash), file);
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,127 @@
+package io.plugcore.plugCore.services;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+public class PluginFolderWatcher {
+    private final Logger logger;
+    private final Path pluginsFolder;
+    private final long debounceMillis;
+    private final Consumer<Set<File>> onChanges;
+    private final Runnable onOverflow;
+    private WatchService watchService;
+    private Thread thread;
+    private volatile boolean running = false;
+
+    public PluginFolderWatcher(Logger logger, File pluginsFolder, Duration debounce, Consumer<Set<File>> onChanges,
+                               Runnable onOverflow) {
+        this.logger = logger;
+        this.pluginsFolder = pluginsFolder.toPath();
+        this.debounceMillis = Math.max(1L, debounce.toMillis());
+        this.onChanges = onChanges;
+        this.onOverflow = onOverflow;
+    }
+
+    public void start() {
+        try {
+            watchService = pluginsFolder.getFileSystem().newWatchService();
+            pluginsFolder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.warning("Could not watch the plugins folder for changes: " + e.getMessage());
+            return;
+        }
+
+        running = true;
+        thread = Thread.ofPlatform().name("PlugCore-Watcher").daemon().start(this::run);
+    }
+
+    public void stop() {
+        running = false;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        Set<File> pending = new LinkedHashSet<>();
+        boolean overflowed = false;
+
+        while (running) {
+            WatchKey key;
+            try {
+                key = pending.isEmpty() && !overflowed
+                        ? watchService.take()
+                        : watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            if (key == null) {
+                if (overflowed) {
+                    pending.clear();
+                    overflowed = false;
+                    rescan();
+                } else {
+                    flush(pending);
+                }
+                continue;
+            }
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    overflowed = true;
+                    continue;
+                }
+
+                Path name = (Path) event.context();
+                if (name.toString().toLowerCase(Locale.ROOT).endsWith(".jar")) {
+                    pending.add(pluginsFolder.resolve(name).toFile());
+                }
+            }
+
+            if (!key.reset()) {
+                logger.warning("The plugins folder is no longer being watched for changes.");
+                running = false;
+            }
+        }
+    }
+
+    private void rescan() {
+        logger.warning("Missed plugin folder events, rescanning all dependent plugins.");
+        try {
+            onOverflow.run();
+        } catch (Exception e) {
+            logger.warning("Failed to rescan the plugins folder: " + e.getMessage());
+        }
+    }
+
+    private void flush(Set<File> pending) {
+        Set<File> changed = Set.copyOf(pending);
+        pending.clear();
+        try {
+            onChanges.accept(changed);
+        } catch (Exception e) {
+            logger.warning("Failed to process plugin folder changes: " + e.getMessage());
+        }
+    }
+}
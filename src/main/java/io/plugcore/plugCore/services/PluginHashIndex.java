@@ -0,0 +1,165 @@
+package io.plugcore.plugCore.services;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import io.plugcore.plugCore.models.HashIndexEntry;
+import io.plugcore.plugCore.models.JarDigest;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PluginHashIndex {
+    private static final String FILE_NAME = "hash-index.json";
+    private static final String KEY_FILE_NAME = "hash-index.key";
+    private static final Type ENTRIES_TYPE = new TypeToken<Map<String, HashIndexEntry>>() {}.getType();
+
+    private final Plugin plugin;
+    private final File indexFile;
+    private final CacheSigner signer;
+    private final Gson gson;
+    private final Map<String, HashIndexEntry> entries;
+    private final MetricsRegistry.Counter lookupHits;
+    private final MetricsRegistry.Counter lookupMisses;
+    private volatile boolean dirty = false;
+
+    public PluginHashIndex(Plugin plugin, MetricsRegistry metrics) {
+        this.plugin = plugin;
+        this.indexFile = new File(plugin.getDataFolder(), FILE_NAME);
+        this.signer = new CacheSigner(new File(plugin.getDataFolder(), KEY_FILE_NAME));
+        this.gson = new GsonBuilder()
+                .registerTypeAdapter(JarDigest.class, new JarDigestAdapter().nullSafe())
+                .create();
+        this.entries = new ConcurrentHashMap<>();
+        MetricsRegistry.CounterFamily lookups = metrics.counterFamily("plugcore_hash_index_lookups_total",
+                "Plugin JAR hash lookups served by the persisted index.", "result");
+        this.lookupHits = lookups.labels("hit");
+        this.lookupMisses = lookups.labels("miss");
+    }
+
+    public void load() {
+        entries.clear();
+        dirty = false;
+
+        if (!indexFile.isFile()) {
+            return;
+        }
+
+        try {
+            JsonObject signed = gson.fromJson(Files.readString(indexFile.toPath(), StandardCharsets.UTF_8), JsonObject.class);
+            if (signed == null || !signed.has("data") || !signed.has("signature")) {
+                plugin.getLogger().warning("Plugin hash index is unsigned, it will be rebuilt.");
+                dirty = true;
+                return;
+            }
+
+            Map<String, HashIndexEntry> stored = gson.fromJson(signed.get("data"), ENTRIES_TYPE);
+            if (stored == null || !signer.verify(gson.toJson(stored, ENTRIES_TYPE), signed.get("signature").getAsString())) {
+                plugin.getLogger().warning("Plugin hash index failed its integrity check, it will be rebuilt.");
+                dirty = true;
+                return;
+            }
+
+            for (Map.Entry<String, HashIndexEntry> entry : stored.entrySet()) {
+                HashIndexEntry value = entry.getValue();
+                if (value == null || value.getHash() == null || !new File(entry.getKey()).isFile()) {
+                    dirty = true;
+                    continue;
+                }
+                entries.put(entry.getKey(), value);
+            }
+        } catch (IOException | JsonParseException | IllegalArgumentException | IllegalStateException | GeneralSecurityException e) {
+            plugin.getLogger().warning("Could not read plugin hash index, it will be rebuilt: " + e.getMessage());
+            entries.clear();
+            dirty = true;
+        }
+    }
+
+    public JarDigest lookup(File jarFile) {
+        String key = keyOf(jarFile);
+        if (key == null) {
+            return null;
+        }
+
+        HashIndexEntry entry = entries.get(key);
+        if (entry == null) {
+            lookupMisses.increment();
+            return null;
+        }
+
+        if (!entry.matches(jarFile.length(), jarFile.lastModified())) {
+            lookupMisses.increment();
+            return null;
+        }
+        lookupHits.increment();
+        return entry.getHash();
+    }
+
+    public void record(File jarFile, JarDigest hash) {
+        String key = keyOf(jarFile);
+        if (key == null || hash == null) {
+            return;
+        }
+
+        long size = jarFile.length();
+        long lastModified = jarFile.lastModified();
+        HashIndexEntry existing = entries.get(key);
+        if (existing != null && existing.matches(size, lastModified) && hash.equals(existing.getHash())) {
+            return;
+        }
+
+        entries.put(key, new HashIndexEntry(size, lastModified, hash));
+        dirty = true;
+    }
+
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+
+        File dataFolder = indexFile.getParentFile();
+        if (!dataFolder.exists() && !dataFolder.mkdirs()) {
+            plugin.getLogger().warning("Could not create data folder for plugin hash index.");
+            return;
+        }
+
+        File tempFile = new File(dataFolder, FILE_NAME + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+            Map<String, HashIndexEntry> snapshot = new TreeMap<>(entries);
+            JsonObject signed = new JsonObject();
+            signed.add("data", gson.toJsonTree(snapshot, ENTRIES_TYPE));
+            signed.addProperty("signature", signer.sign(gson.toJson(snapshot, ENTRIES_TYPE)));
+            gson.toJson(signed, writer);
+        } catch (IOException | GeneralSecurityException e) {
+            plugin.getLogger().warning("Could not write plugin hash index: " + e.getMessage());
+            return;
+        }
+
+        try {
+            Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not replace plugin hash index: " + e.getMessage());
+        }
+    }
+
+    private String keyOf(File jarFile) {
+        try {
+            return jarFile.getCanonicalPath();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
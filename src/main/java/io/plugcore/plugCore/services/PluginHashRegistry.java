@@ -0,0 +1,90 @@
+package io.plugcore.plugCore.services;
+
+import io.plugcore.plugCore.models.JarDigest;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PluginHashRegistry {
+    private final Map<JarDigest, Plugin> pluginsByHash;
+    private final Map<Plugin, JarDigest> hashesByPlugin;
+    private final Map<JarDigest, File> filesByHash;
+    private final Map<JarDigest, String> namesByHash;
+    private final Map<String, JarDigest> hashesByName;
+
+    public PluginHashRegistry() {
+        this.pluginsByHash = new ConcurrentHashMap<>();
+        this.hashesByPlugin = new ConcurrentHashMap<>();
+        this.filesByHash = new ConcurrentHashMap<>();
+        this.namesByHash = new ConcurrentHashMap<>();
+        this.hashesByName = new ConcurrentHashMap<>();
+    }
+
+    public void register(Plugin plugin, JarDigest hash, File file) {
+        JarDigest previousHash = hashesByPlugin.put(plugin, hash);
+        if (previousHash != null && !previousHash.equals(hash)) {
+            pluginsByHash.remove(previousHash, plugin);
+            filesByHash.remove(previousHash);
+            namesByHash.remove(previousHash);
+        }
+
+        pluginsByHash.put(hash, plugin);
+        namesByHash.put(hash, plugin.getName());
+        hashesByName.put(nameKey(plugin.getName()), hash);
+        if (file != null) {
+            filesByHash.put(hash, file);
+        }
+    }
+
+    public void invalidate(Plugin plugin) {
+        JarDigest hash = hashesByPlugin.remove(plugin);
+        if (hash != null) {
+            pluginsByHash.remove(hash, plugin);
+            filesByHash.remove(hash);
+            namesByHash.remove(hash);
+            hashesByName.remove(nameKey(plugin.getName()), hash);
+        }
+    }
+
+    public void detach(Plugin plugin) {
+        JarDigest hash = hashesByPlugin.remove(plugin);
+        if (hash != null) {
+            pluginsByHash.remove(hash, plugin);
+        }
+    }
+
+    public void clear() {
+        pluginsByHash.clear();
+        hashesByPlugin.clear();
+        filesByHash.clear();
+        namesByHash.clear();
+        hashesByName.clear();
+    }
+
+    public Plugin getPlugin(JarDigest hash) {
+        return pluginsByHash.get(hash);
+    }
+
+    public JarDigest getHash(Plugin plugin) {
+        return hashesByPlugin.get(plugin);
+    }
+
+    public File getFile(JarDigest hash) {
+        return filesByHash.get(hash);
+    }
+
+    public String getPluginName(JarDigest hash) {
+        return namesByHash.get(hash);
+    }
+
+    public JarDigest getHashByName(String pluginName) {
+        return hashesByName.get(nameKey(pluginName));
+    }
+
+    private static String nameKey(String pluginName) {
+        return pluginName.toLowerCase(Locale.ROOT);
+    }
+}
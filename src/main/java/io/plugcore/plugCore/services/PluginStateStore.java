@@ -0,0 +1,81 @@
+package io.plugcore.plugCore.services;
+
+import io.plugcore.plugCore.models.AuthorizationStatus;
+import io.plugcore.plugCore.models.JarDigest;
+import io.plugcore.plugCore.models.PluginState;
+import io.plugcore.plugCore.models.PluginStateSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PluginStateStore {
+    private final Map<JarDigest, PluginState> states;
+    private final AtomicLong version;
+    private volatile PluginStateSnapshot snapshot;
+
+    public PluginStateStore() {
+        this.states = new ConcurrentHashMap<>();
+        this.version = new AtomicLong();
+        this.snapshot = new PluginStateSnapshot(0L, Map.of(), List.of(), List.of());
+    }
+
+    public boolean markPending(JarDigest jarHash) {
+        PluginState pending = new PluginState(jarHash, AuthorizationStatus.PENDING, System.currentTimeMillis(), null);
+        if (states.putIfAbsent(jarHash, pending) != null) {
+            return false;
+        }
+        version.incrementAndGet();
+        return true;
+    }
+
+    public PluginState update(JarDigest jarHash, AuthorizationStatus status, String reason) {
+        PluginState state = new PluginState(jarHash, status, System.currentTimeMillis(), reason);
+        states.put(jarHash, state);
+        version.incrementAndGet();
+        return state;
+    }
+
+    public void remove(JarDigest jarHash) {
+        if (states.remove(jarHash) != null) {
+            version.incrementAndGet();
+        }
+    }
+
+    public PluginState get(JarDigest jarHash) {
+        return states.get(jarHash);
+    }
+
+    public boolean isEmpty() {
+        return states.isEmpty();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public PluginStateSnapshot snapshot() {
+        PluginStateSnapshot current = snapshot;
+        long currentVersion = version.get();
+        if (current.getVersion() == currentVersion) {
+            return current;
+        }
+
+        Map<JarDigest, PluginState> copy = Map.copyOf(states);
+        List<JarDigest> authorized = new ArrayList<>();
+        List<JarDigest> unauthorized = new ArrayList<>();
+        for (PluginState state : copy.values()) {
+            if (state.isAuthorized()) {
+                authorized.add(state.getJarHash());
+            } else {
+                unauthorized.add(state.getJarHash());
+            }
+        }
+
+        PluginStateSnapshot rebuilt = new PluginStateSnapshot(currentVersion, copy, List.copyOf(authorized), List.copyOf(unauthorized));
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+}
@@ -0,0 +1,76 @@
+package io.plugcore.plugCore.services;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class RetryPolicy {
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Executor executor;
+    private final Map<String, LongAdder> retries;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, Executor executor) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.executor = executor;
+        this.retries = new ConcurrentHashMap<>();
+    }
+
+    public <T> CompletableFuture<T> execute(String endpoint, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(endpoint, call, 1, result);
+        return result;
+    }
+
+    public long getRetries(String endpoint) {
+        LongAdder counter = retries.get(endpoint);
+        return counter != null ? counter.sum() : 0L;
+    }
+
+    private <T> void attempt(String endpoint, Supplier<CompletableFuture<T>> call, int attempt, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (attempt >= maxAttempts || !isRetryable(cause)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+
+            retries.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+            Executor delayed = CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS, executor);
+            delayed.execute(() -> attempt(endpoint, call, attempt + 1, result));
+        });
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        long half = Math.max(1L, ceiling / 2);
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private static boolean isRetryable(Throwable cause) {
+        return cause instanceof IOException && !(cause instanceof CircuitOpenException);
+    }
+}
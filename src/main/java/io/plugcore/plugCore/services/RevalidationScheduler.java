@@ -0,0 +1,69 @@
+package io.plugcore.plugCore.services;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RevalidationScheduler {
+    private static final long TICKS_PER_SECOND = 20L;
+
+    private final Plugin plugin;
+    private final ValidationService validationService;
+    private final PluginDependencyService dependencyService;
+    private final long intervalTicks;
+    private final long jitterTicks;
+    private final long recheckMillis;
+    private volatile BukkitTask task;
+    private volatile boolean running = false;
+
+    public RevalidationScheduler(Plugin plugin, ValidationService validationService, PluginDependencyService dependencyService,
+                                 Duration interval, Duration jitter, Duration pluginRecheck) {
+        this.plugin = plugin;
+        this.validationService = validationService;
+        this.dependencyService = dependencyService;
+        this.intervalTicks = Math.max(1L, interval.toSeconds() * TICKS_PER_SECOND);
+        this.jitterTicks = Math.max(0L, jitter.toSeconds() * TICKS_PER_SECOND);
+        this.recheckMillis = pluginRecheck.toMillis();
+    }
+
+    public void start() {
+        running = true;
+        scheduleNext();
+    }
+
+    public void stop() {
+        running = false;
+        BukkitTask current = task;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    private void scheduleNext() {
+        if (!running || !plugin.isEnabled()) {
+            return;
+        }
+        long delay = intervalTicks + (jitterTicks > 0 ? ThreadLocalRandom.current().nextLong(jitterTicks + 1) : 0L);
+        task = Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, this::revalidate, delay);
+    }
+
+    private void revalidate() {
+        validationService.refreshServerLink()
+                .handle((linked, throwable) -> {
+                    if (throwable != null) {
+                        plugin.getLogger().warning("Background link check failed: " + throwable.getMessage());
+                    }
+                    return throwable == null && linked;
+                })
+                .thenCompose(linked -> dependencyService.revalidateDuePlugins(recheckMillis, linked))
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable != null) {
+                        plugin.getLogger().warning("Background revalidation failed: " + throwable.getMessage());
+                    }
+                    scheduleNext();
+                });
+    }
+}
@@ -0,0 +1,90 @@
+package io.plugcore.plugCore.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight;
+    private final MetricsRegistry.Counter coalesced;
+
+    public SingleFlight(String endpoint, MetricsRegistry.CounterFamily calls, MetricsRegistry metrics) {
+        this.inFlight = new ConcurrentHashMap<>();
+        this.coalesced = calls.labels(endpoint, "coalesced");
+        metrics.gauge("plugcore_backend_calls_in_flight", "Distinct backend calls currently in flight by endpoint.",
+                inFlight::size, "endpoint", endpoint);
+    }
+
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+
+        CompletableFuture<V> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((value, throwable) -> {
+            inFlight.remove(key, flight);
+            if (throwable != null) {
+                flight.completeExceptionally(throwable);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight.copy();
+    }
+
+    public Map<K, CompletableFuture<V>> executeAll(Collection<K> keys, Function<List<K>, CompletableFuture<Map<K, V>>> call) {
+        Map<K, CompletableFuture<V>> results = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> claimed = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (results.containsKey(key)) {
+                continue;
+            }
+
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+            if (existing != null) {
+                coalesced.increment();
+                results.put(key, existing.copy());
+            } else {
+                claimed.put(key, flight);
+                results.put(key, flight.copy());
+            }
+        }
+
+        if (claimed.isEmpty()) {
+            return results;
+        }
+
+        CompletableFuture<Map<K, V>> future;
+        try {
+            future = call.apply(new ArrayList<>(claimed.keySet()));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((values, throwable) -> claimed.forEach((key, flight) -> {
+            inFlight.remove(key, flight);
+            if (throwable != null) {
+                flight.completeExceptionally(throwable);
+            } else {
+                flight.complete(values != null ? values.get(key) : null);
+            }
+        }));
+        return results;
+    }
+}
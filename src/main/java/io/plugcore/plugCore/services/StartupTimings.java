@@ -0,0 +1,142 @@
+package io.plugcore.plugCore.services;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.plugcore.plugCore.models.BootReport;
+import io.plugcore.plugCore.models.HashThroughput;
+import io.plugcore.plugCore.models.PhaseTiming;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+public class StartupTimings {
+    public static final String DISCOVERY = "discovery";
+    public static final String HASHING = "hashing";
+    public static final String DISABLE = "disable";
+
+    private static final String FILE_NAME = "boot-report.json";
+    private static final int MAX_SAMPLES = 1024;
+
+    private final Logger logger;
+    private final File reportFile;
+    private final Gson gson;
+    private final long startNanos;
+    private final Map<String, PhaseSamples> phases;
+    private final Map<String, HashThroughput> throughput;
+    private volatile BootReport bootReport;
+
+    public StartupTimings(Logger logger, File dataFolder) {
+        this.logger = logger;
+        this.reportFile = new File(dataFolder, FILE_NAME);
+        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.startNanos = System.nanoTime();
+        this.phases = new ConcurrentHashMap<>();
+        this.throughput = new ConcurrentHashMap<>();
+    }
+
+    public void record(String phase, long startedNanos) {
+        recordElapsed(phase, System.nanoTime() - startedNanos);
+    }
+
+    public void recordElapsed(String phase, long elapsedNanos) {
+        phases.computeIfAbsent(phase, key -> new PhaseSamples()).add(elapsedNanos);
+    }
+
+    public void recordHash(File file, long sizeBytes, long startedNanos) {
+        long elapsedNanos = System.nanoTime() - startedNanos;
+        recordElapsed(HASHING, elapsedNanos);
+        throughput.put(file.getName(), new HashThroughput(file.getName(), sizeBytes, elapsedNanos));
+    }
+
+    public List<PhaseTiming> getPhases() {
+        List<PhaseTiming> result = new ArrayList<>();
+        for (Map.Entry<String, PhaseSamples> entry : phases.entrySet()) {
+            result.add(entry.getValue().summarize(entry.getKey()));
+        }
+        result.sort(Comparator.comparing(PhaseTiming::getPhase));
+        return result;
+    }
+
+    public List<HashThroughput> getHashThroughput() {
+        List<HashThroughput> result = new ArrayList<>(throughput.values());
+        result.sort(Comparator.comparingDouble(HashThroughput::getMillis).reversed());
+        return result;
+    }
+
+    public BootReport getBootReport() {
+        return bootReport;
+    }
+
+    public synchronized BootReport finishBoot() {
+        if (bootReport != null) {
+            return bootReport;
+        }
+
+        double bootMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+        bootReport = new BootReport(System.currentTimeMillis(), bootMillis, getPhases(), getHashThroughput());
+        logger.info("Boot report: " + formatSummary(bootReport));
+        writeReport(bootReport);
+        return bootReport;
+    }
+
+    private String formatSummary(BootReport report) {
+        StringBuilder builder = new StringBuilder(String.format(Locale.ROOT, "ready in %.0fms", report.getBootMillis()));
+        for (PhaseTiming phase : report.getPhases()) {
+            builder.append(String.format(Locale.ROOT, ", %s %dx p50=%.1fms p99=%.1fms",
+                    phase.getPhase(), phase.getCount(), phase.getP50Millis(), phase.getP99Millis()));
+        }
+        return builder.toString();
+    }
+
+    private void writeReport(BootReport report) {
+        try {
+            Files.createDirectories(reportFile.getParentFile().toPath());
+            Files.writeString(reportFile.toPath(), gson.toJson(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Failed to write boot report: " + e.getMessage());
+        }
+    }
+
+    private static final class PhaseSamples {
+        private final long[] samples = new long[MAX_SAMPLES];
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        synchronized void add(long elapsedNanos) {
+            samples[(int) (count % MAX_SAMPLES)] = elapsedNanos;
+            count++;
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+        }
+
+        synchronized PhaseTiming summarize(String phase) {
+            long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, MAX_SAMPLES));
+            Arrays.sort(sorted);
+            return new PhaseTiming(phase, count, toMillis(totalNanos), toMillis(percentile(sorted, 0.50)),
+                    toMillis(percentile(sorted, 0.99)), toMillis(maxNanos));
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0L;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -1,52 +1,57 @@
 package io.plugcore.plugCore.services;
 
+import io.plugcore.plugCore.models.JarDigest;
 import io.plugcore.plugCore.models.ServerLinkData;
 import io.plugcore.plugCore.models.ValidationResponse;
 import org.bukkit.plugin.Plugin;
 
-import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
 
 public class ValidationService {
     private final DatabaseService databaseService;
+    private final ExternalIpResolver ipResolver;
+    private final AuthorizationCache authorizationCache;
     private final Map<String, Long> validationCache;
-    private final HttpClient httpClient;
+    private final EventDispatcher eventDispatcher;
+    private final Logger logger;
+    private final MetricsRegistry.Counter linkCacheHits;
+    private final MetricsRegistry.Counter linkCacheMisses;
+    private final MetricsRegistry.Counter purchaseLocalHits;
+    private final MetricsRegistry.Counter purchaseRemoteLookups;
     private volatile boolean serverLinked = false;
+    private volatile long lastLinkValidation = 0L;
+    private volatile Set<JarDigest> purchasedHashes = Set.of();
 
-    public ValidationService(Plugin plugin, DatabaseService databaseService) {
+    public ValidationService(Plugin plugin, DatabaseService databaseService, ExternalIpResolver ipResolver,
+                             AuthorizationCache authorizationCache, EventDispatcher eventDispatcher, MetricsRegistry metrics) {
         this.databaseService = databaseService;
+        this.ipResolver = ipResolver;
+        this.authorizationCache = authorizationCache;
         this.validationCache = new ConcurrentHashMap<>();
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
+        this.eventDispatcher = eventDispatcher;
+        this.logger = plugin.getLogger();
+        MetricsRegistry.CounterFamily linkCache = metrics.counterFamily("plugcore_validation_cache_total",
+                "Server link checks answered from the validation cache.", "result");
+        this.linkCacheHits = linkCache.labels("hit");
+        this.linkCacheMisses = linkCache.labels("miss");
+        MetricsRegistry.CounterFamily purchaseLookups = metrics.counterFamily("plugcore_purchase_lookups_total",
+                "Plugin purchase lookups by source.", "source");
+        this.purchaseLocalHits = purchaseLookups.labels("local");
+        this.purchaseRemoteLookups = purchaseLookups.labels("remote");
     }
 
     private CompletableFuture<String> getExternalIP() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create("https://api.ipify.org"))
-                        .timeout(Duration.ofSeconds(10))
-                        .build();
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() == 200) {
-                    return response.body().trim();
-                } else {
-                    throw new IOException("Failed to get IP: " + response.statusCode());
-                }
-            } catch (Exception e) {
-                throw new RuntimeException("Error fetching external IP", e);
-            }
-        });
+        return ipResolver.resolve();
     }
 
     public CompletableFuture<ValidationResponse> linkServer(String token, String serverName, String minecraftVersion) {
@@ -56,8 +61,11 @@ public class ValidationService {
             return databaseService.linkServer(token, serverName, minecraftVersion, ip, fingerprint)
                     .thenApply(response -> {
                         if (response.isValid()) {
-                            validationCache.put(ip, System.currentTimeMillis());
-                            serverLinked = true;
+                            long currentTime = System.currentTimeMillis();
+                            validationCache.put(ip, currentTime);
+                            setServerLinked(true, currentTime);
+                            authorizationCache.recordServer(ip, true, currentTime);
+                            authorizationCache.save();
                         }
                         return response;
                     });
@@ -71,65 +79,137 @@ public class ValidationService {
             long ttl = 300 * 1000;
 
             if (currentTime - lastValidation < ttl) {
-                serverLinked = true;
+                linkCacheHits.increment();
+                setServerLinked(true, lastValidation);
                 return CompletableFuture.completedFuture(true);
             }
 
-            return databaseService.validateServer(ip)
-                    .thenApply(response -> {
-                        if (response.isValid()) {
-                            validationCache.put(ip, currentTime);
-                            serverLinked = true;
-                            return true;
-                        } else {
-                            validationCache.remove(ip);
-                            serverLinked = false;
-                            return false;
-                        }
-                    });
-        });
+            linkCacheMisses.increment();
+            return fetchServerLink(ip);
+        }).exceptionally(this::handleServerLinkFailure);
     }
 
-    public boolean validateServerLinkSync() {
-        try {
-            String ip = getExternalIP().get();
-            long lastValidation = validationCache.getOrDefault(ip, 0L);
-            long currentTime = System.currentTimeMillis();
-            long ttl = 300 * 1000;
+    public CompletableFuture<Boolean> refreshServerLink() {
+        return getExternalIP().thenCompose(this::fetchServerLink).exceptionally(this::handleServerLinkFailure);
+    }
 
-            if (currentTime - lastValidation < ttl) {
-                serverLinked = true;
-                return true;
-            }
+    public boolean restoreCachedLinkState() {
+        long currentTime = System.currentTimeMillis();
+        if (!authorizationCache.isServerFresh(currentTime)) {
+            return false;
+        }
+        setServerLinked(true, authorizationCache.getServerValidatedAt());
+        return true;
+    }
 
-            ValidationResponse response = databaseService.validateServer(ip).get();
-            if (response.isValid()) {
-                validationCache.put(ip, currentTime);
-                serverLinked = true;
-                return true;
+    private boolean handleServerLinkFailure(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        ipResolver.invalidate();
+        if (authorizationCache.isServerWithinGrace(System.currentTimeMillis())) {
+            logger.warning("Could not reach PlugCore, using cached server link within the offline grace period: " + cause.getMessage());
+            setServerLinked(true, authorizationCache.getServerValidatedAt());
+            return true;
+        }
+        setServerLinked(false, lastLinkValidation);
+        throw new CompletionException(cause);
+    }
+
+    private CompletableFuture<Boolean> fetchServerLink(String ip) {
+        return databaseService.validateServer(ip)
+                .thenApply(response -> {
+                    long currentTime = System.currentTimeMillis();
+                    if (response.isValid()) {
+                        validationCache.put(ip, currentTime);
+                        purchasedHashes = JarDigest.parseAll(response.getPurchasedPlugins());
+                        setServerLinked(true, currentTime);
+                        authorizationCache.recordServer(ip, true, currentTime);
+                        authorizationCache.save();
+                        return true;
+                    } else {
+                        ipResolver.invalidate();
+                        validationCache.remove(ip);
+                        purchasedHashes = Set.of();
+                        setServerLinked(false, currentTime);
+                        authorizationCache.recordServer(ip, false, currentTime);
+                        authorizationCache.save();
+                        return false;
+                    }
+                });
+    }
+
+    public boolean isServerLinked() {
+        return serverLinked;
+    }
+
+    public long getLastLinkValidation() {
+        return lastLinkValidation;
+    }
+
+    private void setServerLinked(boolean linked, long validatedAt) {
+        boolean previous = serverLinked;
+        lastLinkValidation = validatedAt;
+        serverLinked = linked;
+
+        if (previous != linked) {
+            eventDispatcher.linkStateChanged(linked, ipResolver.getCachedIp());
+        }
+    }
+
+    public CompletableFuture<Map<JarDigest, Boolean>> arePluginsAuthorized(Collection<JarDigest> jarHashes) {
+        Map<JarDigest, Boolean> localResults = new HashMap<>();
+        List<JarDigest> misses = new ArrayList<>();
+        for (JarDigest jarHash : jarHashes) {
+            if (isPurchasedLocally(jarHash)) {
+                localResults.put(jarHash, true);
             } else {
-                validationCache.remove(ip);
-                serverLinked = false;
-                return false;
+                misses.add(jarHash);
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Validation error", e);
         }
-    }
 
-    public CompletableFuture<Boolean> isPluginAuthorized(String jarHash) {
-        return getExternalIP().thenCompose(ip -> {
-            return databaseService.checkPluginPurchase(ip, jarHash);
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedFuture(localResults);
+        }
+
+        return getExternalIP().thenCompose(ip -> databaseService.checkPluginPurchases(ip, misses)).thenApply(results -> {
+            long currentTime = System.currentTimeMillis();
+            results.forEach((jarHash, authorized) -> authorizationCache.recordPlugin(jarHash, authorized, currentTime));
+            authorizationCache.save();
+            localResults.putAll(results);
+
+            int unanswered = misses.size() - results.size();
+            if (unanswered > 0) {
+                int kept = keepWithinGrace(localResults, misses, currentTime);
+                logger.warning("PlugCore returned no result for " + unanswered + " plugin(s), " + kept + " kept from cache.");
+            }
+            return localResults;
+        }).exceptionally(throwable -> {
+            Map<JarDigest, Boolean> results = new HashMap<>(localResults);
+            int kept = keepWithinGrace(results, misses, System.currentTimeMillis());
+            logger.warning("Could not reach PlugCore to verify " + misses.size() + " plugin(s), "
+                    + kept + " kept from cache: " + throwable.getMessage());
+            return results;
         });
     }
 
-    public boolean isPluginAuthorizedSync(String jarHash) {
-        try {
-            String ip = getExternalIP().get();
-            return databaseService.checkPluginPurchase(ip, jarHash).get();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to validate plugin synchronously", e);
+    private int keepWithinGrace(Map<JarDigest, Boolean> results, List<JarDigest> misses, long now) {
+        int kept = 0;
+        for (JarDigest jarHash : misses) {
+            if (!results.containsKey(jarHash) && authorizationCache.isPluginWithinGrace(jarHash, now)) {
+                results.put(jarHash, true);
+                kept++;
+            }
         }
+        return kept;
+    }
+
+    private boolean isPurchasedLocally(JarDigest jarHash) {
+        boolean purchased = serverLinked && purchasedHashes.contains(jarHash);
+        (purchased ? purchaseLocalHits : purchaseRemoteLookups).increment();
+        return purchased;
+    }
+
+    public Boolean getCachedPluginAuthorization(JarDigest jarHash) {
+        return authorizationCache.getFreshPluginAuthorization(jarHash, System.currentTimeMillis());
     }
 
     public ServerLinkData getCurrentLinkData() {
@@ -138,17 +218,20 @@ public class ValidationService {
                 null,
                 "",
                 serverLinked,
-                List.of(),
-                0L
+                purchasedHashes,
+                lastLinkValidation
         );
     }
 
     public void clearCache() {
         validationCache.clear();
+        purchasedHashes = Set.of();
     }
 
     public void unlinkServer() {
         clearCache();
-        serverLinked = false;
+        authorizationCache.clear();
+        authorizationCache.save();
+        setServerLinked(false, System.currentTimeMillis());
     }
 }
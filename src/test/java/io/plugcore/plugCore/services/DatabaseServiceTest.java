@@ -0,0 +1,200 @@
+package io.plugcore.plugCore.services;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.plugcore.plugCore.models.JarDigest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DatabaseServiceTest {
+    private static final JarDigest PURCHASED = digest(1);
+    private static final JarDigest NOT_PURCHASED = digest(2);
+    private static final JarDigest THROTTLED = digest(3);
+
+    private final AtomicInteger batchCalls = new AtomicInteger();
+    private final AtomicInteger singleCalls = new AtomicInteger();
+    private final AtomicInteger batchOutages = new AtomicInteger();
+    private final Map<JarDigest, Integer> singleStatuses = new ConcurrentHashMap<>();
+    private volatile int batchStatus = 200;
+    private File workDir;
+    private HttpServer server;
+    private MetricsRegistry metrics;
+    private HttpTransport transport;
+    private DatabaseService databaseService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        workDir = Files.createTempDirectory("plugcore-database-test").toFile();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/check-plugins", exchange -> {
+            batchCalls.incrementAndGet();
+            JsonObject request = readJson(exchange);
+            if (batchOutages.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                respond(exchange, 503, null);
+                return;
+            }
+            if (batchStatus != 200) {
+                respond(exchange, batchStatus, null);
+                return;
+            }
+
+            JsonObject results = new JsonObject();
+            for (JsonElement hash : request.getAsJsonArray("jarHashes")) {
+                JarDigest digest = JarDigest.fromHex(hash.getAsString());
+                if (!digest.equals(THROTTLED)) {
+                    results.addProperty(hash.getAsString(), digest.equals(PURCHASED));
+                }
+            }
+            JsonObject response = new JsonObject();
+            response.add("results", results);
+            respond(exchange, 200, response);
+        });
+        server.createContext("/check-plugin", exchange -> {
+            singleCalls.incrementAndGet();
+            JarDigest digest = JarDigest.fromHex(readJson(exchange).get("jarHash").getAsString());
+            int status = singleStatuses.getOrDefault(digest, 200);
+            if (status != 200) {
+                respond(exchange, status, null);
+                return;
+            }
+
+            JsonObject response = new JsonObject();
+            response.addProperty("purchased", digest.equals(PURCHASED));
+            respond(exchange, 200, response);
+        });
+        server.start();
+
+        Logger logger = Logger.getLogger("PlugCore-Test");
+        metrics = new MetricsRegistry();
+        transport = new HttpTransport(Duration.ofSeconds(5), Duration.ofSeconds(5), new StartupTimings(logger, workDir), metrics);
+        RetryPolicy retryPolicy = new RetryPolicy(2, 10L, 10L, transport.getExecutor());
+        databaseService = new DatabaseService("http://127.0.0.1:" + server.getAddress().getPort(), "test",
+                transport, retryPolicy, 5, Duration.ofSeconds(30), metrics);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.stop(0);
+        transport.shutdown();
+        try (Stream<Path> paths = Files.walk(workDir.toPath())) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    void batchAnswersEveryHashInOneRequest() {
+        Map<JarDigest, Boolean> results = check(PURCHASED, NOT_PURCHASED);
+
+        assertEquals(Map.of(PURCHASED, true, NOT_PURCHASED, false), results);
+        assertEquals(1, batchCalls.get());
+        assertEquals(0, singleCalls.get());
+    }
+
+    @Test
+    void batchOmitsHashesMissingFromTheResponse() {
+        Map<JarDigest, Boolean> results = check(PURCHASED, THROTTLED);
+
+        assertEquals(Map.of(PURCHASED, true), results);
+    }
+
+    @Test
+    void unsupportedBatchFallsBackToSingleChecks() {
+        batchStatus = 404;
+
+        Map<JarDigest, Boolean> results = check(PURCHASED, NOT_PURCHASED);
+
+        assertEquals(Map.of(PURCHASED, true, NOT_PURCHASED, false), results);
+        assertEquals(1, batchCalls.get());
+        assertEquals(2, singleCalls.get());
+
+        check(PURCHASED);
+        assertEquals(1, batchCalls.get());
+        assertEquals(3, singleCalls.get());
+    }
+
+    @Test
+    void failedSingleChecksAreOmittedRatherThanDenied() {
+        batchStatus = 404;
+        singleStatuses.put(THROTTLED, 429);
+
+        Map<JarDigest, Boolean> results = check(PURCHASED, NOT_PURCHASED, THROTTLED);
+
+        assertEquals(Map.of(PURCHASED, true, NOT_PURCHASED, false), results);
+    }
+
+    @Test
+    void throttledBatchFailsInsteadOfDenying() {
+        batchStatus = 429;
+
+        CompletionException failure = assertThrows(CompletionException.class, () -> check(PURCHASED, NOT_PURCHASED));
+
+        assertInstanceOf(IOException.class, failure.getCause());
+        assertEquals(0, singleCalls.get());
+    }
+
+    @Test
+    void retriedRequestsAreCountedAsIssued() {
+        batchOutages.set(1);
+
+        Map<JarDigest, Boolean> results = check(PURCHASED);
+
+        assertEquals(Map.of(PURCHASED, true), results);
+        assertEquals(2, batchCalls.get());
+        assertEquals(2.0, metrics.snapshot().get("plugcore_backend_calls_total{endpoint=\"/check-plugins\",result=\"issued\"}"));
+    }
+
+    private Map<JarDigest, Boolean> check(JarDigest... hashes) {
+        return databaseService.checkPluginPurchases("203.0.113.7", List.of(hashes)).join();
+    }
+
+    private static JarDigest digest(int seed) {
+        byte[] bytes = new byte[JarDigest.BYTES];
+        bytes[0] = (byte) seed;
+        return JarDigest.fromBytes(bytes);
+    }
+
+    private static JsonObject readJson(HttpExchange exchange) throws IOException {
+        try (Reader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, JsonObject body) throws IOException {
+        byte[] bytes = body == null ? new byte[0] : body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}